@@ -0,0 +1,114 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import main.batch.BatchReport;
+import main.batch.ScoringJob;
+import main.blueprint.Blueprint;
+import main.blueprint.BlueprintFileReader;
+import main.building.Building;
+import main.building.BuildingFileReader;
+import main.exceptions.checked.ScoringResultPresenterException;
+import main.logging.Loggable;
+import main.presenters.BufferedScoringResultPresenter;
+import main.scoringresult.ScoringPipeline;
+import main.scoringresult.ScoringResult;
+
+/**
+ * Scores many blueprint and building pairs in one run.
+ * <p>
+ * Files are read and scored on a fixed pool of worker threads, while the
+ * calling thread presents the results in job order, so the output is the same
+ * however many workers there are. A pair that can't be read or scored is
+ * logged and counted as an error, and the rest of the batch carries on.
+ */
+public class BatchScoringApp {
+
+    private final List<ScoringJob> jobs;
+    private final BufferedScoringResultPresenter presenter;
+    private final Loggable logger;
+    private final ScoringPipeline pipeline;
+    private final int workers;
+
+    public BatchScoringApp(List<ScoringJob> jobs, BufferedScoringResultPresenter presenter, Loggable logger,
+            int workers) {
+        this(jobs, presenter, logger, new ScoringPipeline(), workers);
+    }
+
+    public BatchScoringApp(List<ScoringJob> jobs, BufferedScoringResultPresenter presenter, Loggable logger,
+            ScoringPipeline pipeline, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("A batch needs at least one worker, not " + workers + ".");
+        }
+        this.jobs = jobs;
+        this.presenter = presenter;
+        // Workers log rejected dice while reading buildings, and loggers
+        // aren't expected to be thread-safe.
+        this.logger = msg -> {
+            synchronized (logger) {
+                logger.log(msg);
+            }
+        };
+        this.pipeline = pipeline;
+        this.workers = workers;
+    }
+
+    /**
+     * Scores every job and presents the results.
+     *
+     * @return how many jobs were scored and failed, and how long it took
+     */
+    public BatchReport run() {
+        long start = System.nanoTime();
+        int errors = 0;
+        int finished = 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<ScoringResult>> results = new ArrayList<>(jobs.size());
+            for (ScoringJob job : jobs) {
+                results.add(pool.submit(() -> score(job)));
+            }
+
+            for (; finished < jobs.size(); finished++) {
+                ScoringJob job = jobs.get(finished);
+                try {
+                    presenter.present(job.name(), results.get(finished).get());
+                } catch (ExecutionException e) {
+                    logger.log("Failed to score " + job.name() + ": " + e.getCause());
+                    errors++;
+                } catch (ScoringResultPresenterException e) {
+                    logger.log("Failed to present " + job.name() + ": " + e.getMessage());
+                    errors++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.log("Batch was interrupted with " + (jobs.size() - finished) + " pairs left.");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        try {
+            presenter.flush();
+        } catch (ScoringResultPresenterException e) {
+            logger.log(e.getMessage());
+        }
+
+        // Jobs that were never presented, because the batch was interrupted,
+        // count as errors too.
+        errors += jobs.size() - finished;
+        return new BatchReport(jobs.size(), errors, System.nanoTime() - start);
+    }
+
+    private ScoringResult score(ScoringJob job) throws Exception {
+        Blueprint blueprint = BlueprintFileReader.load(job.blueprintPath().toString());
+        Building building = BuildingFileReader.load(job.buildingPath().toString(), logger);
+        return pipeline.score(blueprint, building);
+    }
+}
@@ -6,6 +6,7 @@ import main.exceptions.checked.GameDataSourceException;
 import main.gamedatasources.GameDataSource;
 import main.logging.Loggable;
 import main.presenters.ScoringResultPresenter;
+import main.scoringresult.ScoringPipeline;
 import main.scoringresult.ScoringResult;
 
 public class BlueprintsScoringApp {
@@ -13,20 +14,25 @@ public class BlueprintsScoringApp {
     private final GameDataSource gameData;
     private final ScoringResultPresenter presenter;
     private final Loggable logger;
+    private final ScoringPipeline pipeline;
 
     public BlueprintsScoringApp(GameDataSource gameData, ScoringResultPresenter presenter, Loggable logger) {
+        this(gameData, presenter, logger, new ScoringPipeline());
+    }
+
+    public BlueprintsScoringApp(GameDataSource gameData, ScoringResultPresenter presenter, Loggable logger,
+            ScoringPipeline pipeline) {
         this.gameData = gameData;
         this.presenter = presenter;
         this.logger = logger;
+        this.pipeline = pipeline;
     }
 
     public void run() {
-
-        // Your code goes here.
         try {
             Blueprint blueprint = gameData.getBlueprint();
             Building building = gameData.getBuilding();
-            ScoringResult result = new ScoringResult(blueprint, building, 0, null);
+            ScoringResult result = pipeline.score(blueprint, building);
             presenter.present(result);
         } catch (GameDataSourceException e) {
             logger.log(e.getMessage());
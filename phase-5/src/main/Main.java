@@ -1,13 +1,26 @@
 package main;
 
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+import main.batch.BatchReport;
+import main.batch.ScoringJob;
+import main.batch.ScoringJobs;
+import main.daemon.ScoringDaemon;
 import main.gamedatasources.GameDataSource;
 import main.gamedatasources.StubbedGameDataSource;
 import main.gamedatasources.TextFileGameDataSource;
 import main.logging.Loggable;
 import main.logging.SimpleLogger;
+import main.presenters.BufferedScoringResultPresenter;
 import main.presenters.ScoringResultPresenter;
 import main.presenters.StubbedScoringResultPresenter;
 import main.presenters.TextFileScoringResultPresenter;
+import main.scoringresult.ScoringPipeline;
 //import main.presenters.WebScoringResultPresenter;
 
 /**
@@ -28,10 +41,35 @@ import main.presenters.TextFileScoringResultPresenter;
  * results are displayed as a web page and a 3D model of the building
  * being scored is created as well. Otherwise, a stubbed presenter
  * is used to output a really useless message to the console.
+ * 
+ * If the first flag is --batch=path/to/directory-or-manifest, every
+ * blueprint/building pair found there (see {@link ScoringJobs}) is
+ * scored in the same run. The results go to the file named by an
+ * optional --file=path/to/results flag, or to the console, and a
+ * line of throughput and error counts is printed at the end. The
+ * optional flag --workers=N sets how many threads read and score
+ * pairs; by default there is one per processor.
+ * 
+ * If the first flag is --daemon or --daemon=port, the scorer keeps
+ * running and scores buildings sent by clients over a loopback
+ * socket (see {@link ScoringDaemon} for the protocol and limits),
+ * on port 7543 unless another is given. The optional flag
+ * --clients=N sets how many connections are served at once.
  */
 public class Main {
 
+    private static final int DEFAULT_DAEMON_PORT = 7543;
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].startsWith("--daemon")) {
+            runDaemon(args);
+            return;
+        }
+        if (args.length > 0 && args[0].startsWith("--batch=")) {
+            runBatch(args);
+            return;
+        }
+
         String dataSourceArgs = "";
         String presenterArgs = "";
 
@@ -68,8 +106,79 @@ public class Main {
             return new TextFileScoringResultPresenter(resultPath);
         } else if (presenterArgs.equals("--web")) {
             // return new WebScoringResultPresenter();
+            return new StubbedScoringResultPresenter();
         } else {
             return new StubbedScoringResultPresenter();
         }
     }
+
+    private static void runBatch(String[] args) {
+        Loggable logger = new SimpleLogger();
+        try {
+            Path jobsPath = Path.of(args[0].substring("--batch=".length()));
+            String resultPath = null;
+            int workers = Runtime.getRuntime().availableProcessors();
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("--file=")) {
+                    resultPath = args[i].substring("--file=".length());
+                } else if (args[i].startsWith("--workers=")) {
+                    workers = Integer.parseInt(args[i].substring("--workers=".length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown batch flag: " + args[i]);
+                }
+            }
+
+            List<ScoringJob> jobs = ScoringJobs.load(jobsPath);
+            BatchReport report;
+            try (Writer writer = (resultPath == null) ? consoleWriter() : new FileWriter(resultPath);
+                    BufferedScoringResultPresenter presenter = new BufferedScoringResultPresenter(writer)) {
+                report = new BatchScoringApp(jobs, presenter, logger, workers).run();
+            }
+            System.out.println(report);
+            if (report.errors() > 0) {
+                System.out.println("Some pairs couldn't be scored; consult log for details.");
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(e.getMessage());
+            System.out.println("Error happened while attempting to run the batch; consult log for details.");
+        }
+    }
+
+    /**
+     * Returns a writer to the console that is flushed, not closed, when it's
+     * closed, so System.out stays usable.
+     */
+    private static Writer consoleWriter() {
+        return new OutputStreamWriter(System.out) {
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private static void runDaemon(String[] args) {
+        Loggable logger = new SimpleLogger();
+        try {
+            int port = args[0].startsWith("--daemon=")
+                    ? Integer.parseInt(args[0].substring("--daemon=".length()))
+                    : DEFAULT_DAEMON_PORT;
+            int maxClients = ScoringDaemon.DEFAULT_MAX_CLIENTS;
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("--clients=")) {
+                    maxClients = Integer.parseInt(args[i].substring("--clients=".length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown daemon flag: " + args[i]);
+                }
+            }
+
+            try (ScoringDaemon daemon = new ScoringDaemon(port, maxClients, new ScoringPipeline(), logger)) {
+                System.out.println("Scoring daemon listening on 127.0.0.1:" + daemon.port());
+                daemon.serve();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(e.getMessage());
+            System.out.println("Error happened while attempting to run the daemon; consult log for details.");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package main.archive;
+
+import main.blueprint.Blueprint;
+import main.blueprint.BlueprintCodec;
+import main.blueprint.BlueprintFileReader;
+import main.building.Building;
+import main.building.BuildingCodec;
+import main.building.BuildingFileReader;
+import main.exceptions.checked.InvalidBuildingException;
+import main.logging.Loggable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads buildings and blueprints out of a single memory-mapped archive file
+ * written by {@link GameArchiveWriter}, so ingesting many games means opening
+ * one file instead of one file per building.
+ * <p>
+ * The layout of an archive is:
+ * <ul>
+ * <li>a header: magic and version (4 bytes each)
+ * <li>every record's bytes, one after another
+ * <li>an index with one entry per record: offset (8 bytes), length and kind
+ * (4 bytes each)
+ * <li>a footer: index offset (8 bytes), record count and magic (4 bytes
+ * each)
+ * </ul>
+ * Records are only decoded when asked for, straight from the mapped file. An
+ * open archive holds no locks and nothing changes it, so it can be read from
+ * any number of threads.
+ */
+public class GameArchive {
+    static final int MAGIC = 0x42504741; // "BPGA"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int INDEX_ENTRY_BYTES = 16;
+    static final int FOOTER_BYTES = 16;
+
+    /**
+     * Receives records from {@link GameArchive#forEach(RecordVisitor)}.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(int index, RecordKind kind, ByteBuffer data);
+    }
+
+    private final ByteBuffer archive;
+    private final int indexOffset;
+    private final int count;
+
+    private GameArchive(ByteBuffer archive, int indexOffset, int count) {
+        this.archive = archive;
+        this.indexOffset = indexOffset;
+        this.count = count;
+    }
+
+    /**
+     * Memory-maps an archive and checks its header, footer and index.
+     *
+     * @param path the path of the archive
+     * @return the opened archive
+     * @throws IOException if the file can't be read, isn't an archive, or is
+     *                     too large to map in one piece (2 GB)
+     */
+    public static GameArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Archive is too large to map: " + path);
+            }
+            if (size < HEADER_BYTES + FOOTER_BYTES) {
+                throw new IOException("Not a game archive: " + path);
+            }
+            ByteBuffer archive = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int footer = (int) size - FOOTER_BYTES;
+            long indexOffset = archive.getLong(footer);
+            int count = archive.getInt(footer + 8);
+            if (archive.getInt(0) != MAGIC || archive.getInt(footer + 12) != MAGIC) {
+                throw new IOException("Not a game archive: " + path);
+            }
+            if (archive.getInt(4) != VERSION) {
+                throw new IOException("Unsupported game archive version " + archive.getInt(4) + ": " + path);
+            }
+            if (count < 0 || indexOffset < HEADER_BYTES
+                    || indexOffset + (long) count * INDEX_ENTRY_BYTES != footer) {
+                throw new IOException("Corrupt game archive index: " + path);
+            }
+
+            GameArchive result = new GameArchive(archive, (int) indexOffset, count);
+            for (int i = 0; i < count; i++) {
+                long offset = result.offsetOf(i);
+                int length = result.lengthOf(i);
+                if (offset < HEADER_BYTES || length < 0 || offset + length > indexOffset
+                        || RecordKind.fromCode(result.kindCodeOf(i)) == null) {
+                    throw new IOException("Corrupt game archive record " + i + ": " + path);
+                }
+            }
+            return result;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public RecordKind kind(int index) {
+        checkIndex(index);
+        return RecordKind.fromCode(kindCodeOf(index));
+    }
+
+    /**
+     * Returns a read-only view of a record's bytes in the mapped file.
+     */
+    public ByteBuffer record(int index) {
+        checkIndex(index);
+        return archive.slice((int) offsetOf(index), lengthOf(index)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Decodes the building stored at the given index, in either format.
+     * Rejected dice in a text record are logged the same way as when reading
+     * a building file.
+     *
+     * @throws IllegalArgumentException if the record isn't a building
+     * @throws InvalidBuildingException if the building has violations
+     */
+    public Building building(int index, Loggable logger) throws InvalidBuildingException {
+        RecordKind kind = requireKind(index, RecordKind.BUILDING_TEXT, RecordKind.BUILDING_BINARY);
+        if (kind == RecordKind.BUILDING_TEXT) {
+            return BuildingFileReader.parse(record(index), logger);
+        }
+
+        Building building = BuildingCodec.decode(record(index));
+        if (!building.isValid()) {
+            throw new InvalidBuildingException("Building has violations.");
+        }
+        return building;
+    }
+
+    /**
+     * Decodes the blueprint stored at the given index, in either format. A
+     * text record is checked the same way as a blueprint file.
+     *
+     * @throws IllegalArgumentException if the record isn't a valid blueprint
+     */
+    public Blueprint blueprint(int index) {
+        RecordKind kind = requireKind(index, RecordKind.BLUEPRINT_TEXT, RecordKind.BLUEPRINT_BINARY);
+        if (kind == RecordKind.BLUEPRINT_BINARY) {
+            return BlueprintCodec.decode(record(index));
+        }
+
+        ByteBuffer data = record(index);
+        byte[] text = new byte[data.remaining()];
+        data.get(text);
+        try {
+            return BlueprintFileReader.parse(new String(text, StandardCharsets.US_ASCII));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid blueprint in record " + index + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Shows every record to the visitor, in index order, without decoding
+     * any of them.
+     */
+    public void forEach(RecordVisitor visitor) {
+        for (int i = 0; i < count; i++) {
+            visitor.visit(i, kind(i), record(i));
+        }
+    }
+
+    private long offsetOf(int index) {
+        return archive.getLong(indexOffset + index * INDEX_ENTRY_BYTES);
+    }
+
+    private int lengthOf(int index) {
+        return archive.getInt(indexOffset + index * INDEX_ENTRY_BYTES + 8);
+    }
+
+    private int kindCodeOf(int index) {
+        return archive.getInt(indexOffset + index * INDEX_ENTRY_BYTES + 12);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Archive has no record " + index + ".");
+        }
+    }
+
+    private RecordKind requireKind(int index, RecordKind text, RecordKind binary) {
+        RecordKind kind = kind(index);
+        if (kind != text && kind != binary) {
+            throw new IllegalArgumentException(
+                    "Record " + index + " holds a " + kind + ", not a " + text + " or " + binary + ".");
+        }
+        return kind;
+    }
+}
@@ -0,0 +1,190 @@
+package main.archive;
+
+import main.blueprint.Blueprint;
+import main.blueprint.BlueprintCodec;
+import main.building.Building;
+import main.building.BuildingCodec;
+import main.building.DiceStackView;
+import main.building.Die;
+import main.space.Space;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writes buildings and blueprints one after another into a single archive
+ * file that {@link GameArchive} can read back by index.
+ * <p>
+ * Records are streamed to the file as they're added; the index is kept in
+ * memory (16 bytes per record) and written at the end when the writer is
+ * closed. An archive isn't readable until its writer has been closed.
+ */
+public class GameArchiveWriter implements Closeable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final DataOutputStream out;
+    private long position;
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] kinds = new int[INITIAL_CAPACITY];
+    private int count;
+    private boolean closed;
+
+    private GameArchiveWriter(DataOutputStream out) throws IOException {
+        this.out = out;
+        out.writeInt(GameArchive.MAGIC);
+        out.writeInt(GameArchive.VERSION);
+        position = GameArchive.HEADER_BYTES;
+    }
+
+    /**
+     * Creates (or replaces) an archive file.
+     *
+     * @param path the path of the archive
+     * @return a writer for the new archive
+     * @throws IOException if the file can't be created
+     */
+    public static GameArchiveWriter create(Path path) throws IOException {
+        return new GameArchiveWriter(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path))));
+    }
+
+    /**
+     * Adds the contents of a building file, unchanged.
+     *
+     * @return the index of the new record
+     */
+    public int addBuildingFile(Path buildingFile) throws IOException {
+        return add(RecordKind.BUILDING_TEXT, Files.readAllBytes(buildingFile));
+    }
+
+    /**
+     * Adds the contents of a blueprint file, unchanged.
+     *
+     * @return the index of the new record
+     */
+    public int addBlueprintFile(Path blueprintFile) throws IOException {
+        return add(RecordKind.BLUEPRINT_TEXT, Files.readAllBytes(blueprintFile));
+    }
+
+    /**
+     * Adds a building, written in the building file format.
+     *
+     * @return the index of the new record
+     */
+    public int addBuilding(Building building) throws IOException {
+        return add(RecordKind.BUILDING_TEXT, formatBuilding(building).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Adds a blueprint, written in the blueprint file format.
+     *
+     * @return the index of the new record
+     */
+    public int addBlueprint(Blueprint blueprint) throws IOException {
+        return add(RecordKind.BLUEPRINT_TEXT, (blueprint + "\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Adds a building encoded by {@link BuildingCodec}, which takes far less
+     * room than the text format.
+     *
+     * @return the index of the new record
+     */
+    public int addBuildingBinary(Building building) throws IOException {
+        return add(RecordKind.BUILDING_BINARY, BuildingCodec.encode(building));
+    }
+
+    /**
+     * Adds a blueprint encoded by {@link BlueprintCodec}.
+     *
+     * @return the index of the new record
+     */
+    public int addBlueprintBinary(Blueprint blueprint) throws IOException {
+        return add(RecordKind.BLUEPRINT_BINARY, BlueprintCodec.encode(blueprint));
+    }
+
+    /**
+     * Adds a record that is already encoded.
+     *
+     * @return the index of the new record
+     * @throws IllegalStateException if the writer has been closed
+     */
+    public int add(RecordKind kind, byte[] data) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Can't add to an archive writer that has been closed.");
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, 2 * count);
+            lengths = Arrays.copyOf(lengths, 2 * count);
+            kinds = Arrays.copyOf(kinds, 2 * count);
+        }
+        out.write(data);
+        offsets[count] = position;
+        lengths[count] = data.length;
+        kinds[count] = kind.code();
+        position += data.length;
+        return count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Writes the index and closes the file. Closing a writer again does
+     * nothing.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            long indexOffset = position;
+            for (int i = 0; i < count; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+                out.writeInt(kinds[i]);
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(count);
+            out.writeInt(GameArchive.MAGIC);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static String formatBuilding(Building building) {
+        StringBuilder sb = new StringBuilder();
+        for (int row = 1; row <= Building.MAX_ROWS; row++) {
+            if (row > 1) {
+                sb.append("\n");
+            }
+            sb.append("[row.").append(row).append("]\n");
+            for (int col = 1; col <= Building.MAX_COLS; col++) {
+                DiceStackView stack = building.getStackView(Space.at((row - 1) * Building.MAX_COLS + col - 1));
+                if (stack.isEmpty()) {
+                    continue;
+                }
+                sb.append("col.").append(col).append(" = \"");
+                for (int level = 1; level <= stack.getHeight(); level++) {
+                    if (level > 1) {
+                        sb.append(" ");
+                    }
+                    // The canonical die never carries a Space, so it prints as just "W1".
+                    sb.append(Die.fromCode(stack.getDie(level).code()));
+                }
+                sb.append("\"\n");
+            }
+        }
+        return sb.toString();
+    }
+}
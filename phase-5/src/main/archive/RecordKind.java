@@ -0,0 +1,52 @@
+package main.archive;
+
+/**
+ * What a record in a {@link GameArchive} holds, and how it's encoded.
+ */
+public enum RecordKind {
+    /**
+     * A building in the text format read by
+     * {@link main.building.BuildingFileReader}.
+     */
+    BUILDING_TEXT(1),
+    /**
+     * A blueprint in the text format read by
+     * {@link main.blueprint.BlueprintFileReader}.
+     */
+    BLUEPRINT_TEXT(2),
+    /**
+     * A building encoded by {@link main.building.BuildingCodec}.
+     */
+    BUILDING_BINARY(3),
+    /**
+     * A blueprint encoded by {@link main.blueprint.BlueprintCodec}.
+     */
+    BLUEPRINT_BINARY(4);
+
+    private final int code;
+
+    RecordKind(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the number stored in an archive's index for this kind.
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Returns the kind stored in an archive's index as the given number.
+     *
+     * @return the kind, or null if no kind has that number
+     */
+    public static RecordKind fromCode(int code) {
+        for (RecordKind kind : values()) {
+            if (kind.code == code) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package main.batch;
+
+/**
+ * How a batch went: how many jobs were scored, how many failed, and how long
+ * it all took.
+ */
+public final class BatchReport {
+    private final int jobs;
+    private final int errors;
+    private final long elapsedNanos;
+
+    public BatchReport(int jobs, int errors, long elapsedNanos) {
+        this.jobs = jobs;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int jobs() {
+        return jobs;
+    }
+
+    public int scored() {
+        return jobs - errors;
+    }
+
+    public int errors() {
+        return errors;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns how many jobs were finished per second, failed ones included.
+     */
+    public double jobsPerSecond() {
+        return elapsedNanos == 0 ? 0 : jobs * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Scored %d of %d pairs in %.1f ms (%.1f pairs/s), %d errors.",
+                scored(), jobs, elapsedNanos / 1e6, jobsPerSecond(), errors);
+    }
+}
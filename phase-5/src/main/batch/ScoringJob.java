@@ -0,0 +1,38 @@
+package main.batch;
+
+import java.nio.file.Path;
+
+/**
+ * One blueprint and building file pair to be scored in a batch.
+ */
+public final class ScoringJob {
+    private final String name;
+    private final Path blueprintPath;
+    private final Path buildingPath;
+
+    public ScoringJob(String name, Path blueprintPath, Path buildingPath) {
+        this.name = name;
+        this.blueprintPath = blueprintPath;
+        this.buildingPath = buildingPath;
+    }
+
+    /**
+     * Returns the name the job's result is presented under.
+     */
+    public String name() {
+        return name;
+    }
+
+    public Path blueprintPath() {
+        return blueprintPath;
+    }
+
+    public Path buildingPath() {
+        return buildingPath;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
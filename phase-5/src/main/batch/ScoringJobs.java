@@ -0,0 +1,79 @@
+package main.batch;
+
+import main.exceptions.checked.GameDataSourceException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Utility class for finding the blueprint and building pairs to score in a
+ * batch, either from a directory or from a manifest file.
+ * <p>
+ * In a directory, every file named {@code building<suffix>} is paired with
+ * the file {@code blueprint<suffix>} next to it, so {@code building-01.txt}
+ * goes with {@code blueprint-01.txt}. Jobs are sorted by building file name.
+ * <p>
+ * A manifest has one {@code blueprint,building} pair per line, in the same
+ * form as the {@code --file=} flag. Relative paths are resolved against the
+ * manifest's directory, and blank lines and lines starting with '#' are
+ * skipped. Jobs keep manifest order and are named after their line.
+ */
+public class ScoringJobs {
+    private static final String BUILDING_PREFIX = "building";
+    private static final String BLUEPRINT_PREFIX = "blueprint";
+
+    private ScoringJobs() {
+        throw new UnsupportedOperationException("ScoringJobs cannot be instantiated.");
+    }
+
+    /**
+     * Finds the jobs in a directory or manifest file.
+     *
+     * @throws IOException             if the directory or manifest can't be
+     *                                 read
+     * @throws GameDataSourceException if a manifest line isn't a pair of paths
+     */
+    public static List<ScoringJob> load(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            return fromDirectory(path);
+        }
+        return fromManifest(path);
+    }
+
+    private static List<ScoringJob> fromDirectory(Path directory) throws IOException {
+        List<ScoringJob> jobs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(BUILDING_PREFIX))
+                    .sorted()
+                    .forEach(name -> jobs.add(new ScoringJob(name,
+                            directory.resolve(BLUEPRINT_PREFIX + name.substring(BUILDING_PREFIX.length())),
+                            directory.resolve(name))));
+        }
+        return Collections.unmodifiableList(jobs);
+    }
+
+    private static List<ScoringJob> fromManifest(Path manifest) throws IOException {
+        Path base = manifest.toAbsolutePath().getParent();
+        List<String> lines = Files.readAllLines(manifest);
+        List<ScoringJob> jobs = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] paths = line.split(",");
+            if (paths.length != 2 || paths[0].isBlank() || paths[1].isBlank()) {
+                throw new GameDataSourceException(
+                        "Line " + (i + 1) + ": expected blueprint,building but found \"" + line + "\".");
+            }
+            jobs.add(new ScoringJob(line, base.resolve(paths[0].trim()), base.resolve(paths[1].trim())));
+        }
+        return Collections.unmodifiableList(jobs);
+    }
+}
@@ -1,7 +1,8 @@
 package main.blueprint;
 
 import main.building.Building;
-import main.space.*;
+import main.space.Space;
+import main.space.Symmetry;
 import main.exceptions.runtime.InvalidBlueprintTemplateException;
 
 public class Blueprint {
@@ -43,24 +44,52 @@ public class Blueprint {
     }
 
     private char getCharAt(Space space) {
-        int row = space.rowVal();
-        int col = space.colVal();
-        int index = row * WIDTH + col;
+        int index = space.index();
         return (index >= 0 && index < spaces.length()) ? spaces.charAt(index) : ' ';
     }
 
+    /**
+     * Returns true if turning this blueprint over by the given symmetry leaves
+     * every space with the same height target or prohibition.
+     *
+     * @param symmetry the symmetry to check
+     * @return true if the blueprint looks the same after the symmetry
+     */
+    public boolean isSymmetricUnder(Symmetry symmetry) {
+        for (int index = 0; index < Space.COUNT; index++) {
+            if (spaces.charAt(index) != spaces.charAt(symmetry.apply(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the smallest hash of the building over every symmetry this
+     * blueprint is symmetric under. Buildings with the same canonical hash for
+     * a blueprint score the same against it.
+     *
+     * @param building the building to hash
+     * @return the building's canonical hash for this blueprint
+     */
+    public long canonicalHashOf(Building building) {
+        long min = building.zobristHash();
+        for (Symmetry symmetry : Symmetry.values()) {
+            if (isSymmetricUnder(symmetry)) {
+                min = Math.min(min, building.hashUnder(symmetry));
+            }
+        }
+        return min;
+    }
+
     public boolean isFollowedBy(Building building) {
-        for (int row = 1; row <= HEIGHT; row++) {
-            for (int col = 1; col <= WIDTH; col++) {
-                Row r = Row.at(row);
-                Col c = Col.at(col);
-                Space space = Space.from(r, c);
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
 
-                int requiredHeight = heightTargetAt(space);
-                if (requiredHeight > 0) {
-                    if (building.getStack(space).getHeight() != requiredHeight) {
-                        return false;
-                    }
+            int requiredHeight = heightTargetAt(space);
+            if (requiredHeight > 0) {
+                if (building.getStackView(space).getHeight() != requiredHeight) {
+                    return false;
                 }
             }
         }
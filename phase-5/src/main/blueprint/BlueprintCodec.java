@@ -0,0 +1,93 @@
+package main.blueprint;
+
+import main.space.Space;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes blueprints in a compact, versioned binary form.
+ * <p>
+ * An encoded blueprint is 1 version byte (currently 1) followed by 3 bytes
+ * holding one 3-bit cell per space, in space index order starting from the
+ * lowest bit: a 2-bit height target in [1, 3], or just the flag bit (4) for a
+ * prohibited space. The top 6 bits of the 3 bytes are spare and must be 0.
+ */
+public class BlueprintCodec {
+    public static final int VERSION = 1;
+    public static final int ENCODED_BYTES = 4;
+
+    private static final int CELL_BITS = 3;
+    private static final int PROHIBITED = 0b100;
+    private static final int CELLS_MASK = (1 << (Space.COUNT * CELL_BITS)) - 1;
+
+    private BlueprintCodec() {
+        throw new UnsupportedOperationException("BlueprintCodec cannot be instantiated.");
+    }
+
+    public static byte[] encode(Blueprint blueprint) {
+        byte[] bytes = new byte[ENCODED_BYTES];
+        encode(blueprint, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Writes the blueprint at the buffer's position and moves the position
+     * past it.
+     */
+    public static void encode(Blueprint blueprint, ByteBuffer out) {
+        int cells = 0;
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            int cell = blueprint.isProhibitedSpace(space) ? PROHIBITED : blueprint.heightTargetAt(space);
+            cells |= cell << (index * CELL_BITS);
+        }
+        out.put((byte) VERSION);
+        out.put((byte) cells);
+        out.put((byte) (cells >>> 8));
+        out.put((byte) (cells >>> 16));
+    }
+
+    public static Blueprint decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        Blueprint blueprint = decode(in);
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Encoded blueprint has " + in.remaining() + " bytes left over.");
+        }
+        return blueprint;
+    }
+
+    /**
+     * Reads one blueprint from the buffer's position and moves the position
+     * past it.
+     *
+     * @throws IllegalArgumentException if the bytes aren't an encoded blueprint
+     */
+    public static Blueprint decode(ByteBuffer in) {
+        try {
+            int version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported blueprint encoding version " + version + ".");
+            }
+            int cells = (in.get() & 0xFF) | (in.get() & 0xFF) << 8 | (in.get() & 0xFF) << 16;
+            if ((cells & ~CELLS_MASK) != 0) {
+                throw new IllegalArgumentException("Spare bits set in encoded blueprint: " + Integer.toHexString(cells));
+            }
+
+            char[] spaces = new char[Space.COUNT];
+            for (int index = 0; index < Space.COUNT; index++) {
+                int cell = (cells >>> (index * CELL_BITS)) & 0b111;
+                if (cell == PROHIBITED) {
+                    spaces[index] = 'X';
+                } else if (cell >= 1 && cell <= 3) {
+                    spaces[index] = (char) ('0' + cell);
+                } else {
+                    throw new IllegalArgumentException("Invalid cell " + cell + " in encoded blueprint.");
+                }
+            }
+            return new Blueprint(new String(spaces));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded blueprint is truncated.");
+        }
+    }
+}
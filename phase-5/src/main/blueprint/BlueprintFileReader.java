@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.stream.Collectors;
 
 /**
  * Utility class for reading and loading a {@link Blueprint} from a file.
@@ -43,6 +44,18 @@ public class BlueprintFileReader {
         return parseBlueprint(lines);
     }
 
+    /**
+     * Parses a blueprint from the contents of a blueprint file that are
+     * already in memory, checking them the same way as {@link #load(String)}.
+     *
+     * @param text the contents of a blueprint file
+     * @return a {@link Blueprint} object
+     * @throws Exception if any error occurs during parsing
+     */
+    public static Blueprint parse(String text) throws Exception {
+        return parseBlueprint(text.lines().collect(Collectors.toList()));
+    }
+
     /**
      * Parses the blueprint data from a list of strings.
      * Assumes the grid is 3 rows x 2 columns and validates using Row/Col.
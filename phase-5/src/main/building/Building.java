@@ -2,13 +2,13 @@ package main.building;
 
 import main.exceptions.checked.InvalidBuildingException;
 import main.exceptions.runtime.InvalidLevelException;
-import main.space.Col;
-import main.space.Row;
 import main.space.Space;
+import main.space.Symmetry;
 import main.violations.RuleViolation;
 import main.violations.ViolationList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Represents a building made up of dice stacks.
@@ -19,57 +19,181 @@ public class Building {
     private boolean isValid;
     private int numDice;
     private ViolationList violations;
+    private int[] materialCounts;
+    private int[] faceSums;
+    private int[] oddFaceCounts;
+    private int[][] levelCounts;
+    private int[] placements;
+    private long[] hashes;
+    private long[] occupancy;
     public static final int MAX_ROWS = 3;
     public static final int MAX_COLS = 2;
     private static final String SEPARATOR = "==+==\n";
+    private static final int NUM_MATERIALS = Material.values().length;
+    private static final int INITIAL_LEVELS = 6;
+    private static final Symmetry[] SYMMETRIES = Symmetry.values();
 
     public Building() {
         stacks = new DiceStack[MAX_ROWS][MAX_COLS];
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            stacks[space.rowVal()][space.colVal()] = new DiceStack(space);
+        }
         height = 0;
         numDice = 0;
         isValid = true;
         violations = new ViolationList();
+        materialCounts = new int[NUM_MATERIALS];
+        faceSums = new int[NUM_MATERIALS];
+        oddFaceCounts = new int[NUM_MATERIALS];
+        levelCounts = new int[NUM_MATERIALS][INITIAL_LEVELS];
+        placements = new int[INITIAL_LEVELS];
+        hashes = new long[SYMMETRIES.length];
+        occupancy = new long[NUM_MATERIALS];
     }
 
     public Building(Building other) {
         stacks = new DiceStack[MAX_ROWS][MAX_COLS];
         for (int i = 0; i < MAX_ROWS; i++) {
             for (int j = 0; j < MAX_COLS; j++) {
-                if (other.stacks[i][j] != null) {
-                    stacks[i][j] = new DiceStack(other.stacks[i][j]);
-                }
+                stacks[i][j] = new DiceStack(other.stacks[i][j]);
             }
         }
         height = other.height;
         numDice = other.numDice;
         isValid = other.isValid;
         violations = new ViolationList(other.violations);
+        materialCounts = other.materialCounts.clone();
+        faceSums = other.faceSums.clone();
+        oddFaceCounts = other.oddFaceCounts.clone();
+        levelCounts = new int[NUM_MATERIALS][];
+        for (int m = 0; m < NUM_MATERIALS; m++) {
+            levelCounts[m] = other.levelCounts[m].clone();
+        }
+        placements = other.placements.clone();
+        hashes = other.hashes.clone();
+        occupancy = other.occupancy.clone();
     }
 
+    /**
+     * Adds a die on top of the stack at the given space.
+     * <p>
+     * Unlike {@link #tryAdd(Die, Space)}, the die is kept even when it breaks
+     * a rule, so the building's violations describe everything that was
+     * added to it.
+     *
+     * @throws InvalidBuildingException if the building has any violations
+     *                                  after the die is added
+     */
     public void add(Die die, Space space) throws InvalidBuildingException {
-        int row = space.rowVal();
-        int col = space.colVal();
+        if (!place(die, space)) {
+            throw new InvalidBuildingException("Building has these violations: " + violations + ".");
+        }
+    }
 
-        if (stacks[row][col] == null) {
-            stacks[row][col] = new DiceStack(space);
+    /**
+     * Adds a die on top of the stack at the given space so that it can later
+     * be taken back off with {@link #pop()}. Like {@link #add(Die, Space)},
+     * the die is kept even when it breaks a rule, but nothing is thrown.
+     *
+     * @return true if the building has no violations after the die is added
+     */
+    public boolean push(Die die, Space space) {
+        return place(die, space);
+    }
+
+    /**
+     * Takes the most recently added die back off the building, restoring the
+     * height, dice count, material counters and violations to exactly what
+     * they were before that die was added. Dice added with add, tryAdd and
+     * push can all be popped, most recent first.
+     *
+     * @return the die that was removed
+     * @throws IllegalStateException if the building is empty
+     */
+    public Die pop() {
+        if (numDice == 0) {
+            throw new IllegalStateException("Can't pop a die from an empty building.");
         }
-        stacks[row][col].add(die);
-        numDice++;
-        updateBuildingState();
 
-        if (!isValid) {
-            throw new InvalidBuildingException("Building has these violations: " + violations + ".");
+        numDice--;
+        Space space = Space.at(placements[numDice]);
+        DiceStack stack = stacks[space.rowVal()][space.colVal()];
+        int level = stack.getHeight();
+        Die die = stack.pop();
+        uncountDie(die, space, level);
+        hashDie(die, space, level);
+
+        if (level == height) {
+            height = 0;
+            for (int index = 0; index < Space.COUNT; index++) {
+                height = Math.max(height, getStackView(Space.at(index)).getHeight());
+            }
         }
+        if (violations.hasViolations()) {
+            // Violations only ever depend on the dice that are left, so a
+            // building that had any can simply work them out again.
+            violations = new ViolationList();
+            for (int index = 0; index < Space.COUNT; index++) {
+                Space other = Space.at(index);
+                stacks[other.rowVal()][other.colVal()].addViolationsTo(violations);
+            }
+            if (numDice > 6) {
+                violations.add(RuleViolation.BUILDING_OVERLARGE);
+            }
+            isValid = !violations.hasViolations();
+        }
+        return die;
     }
 
-    public void add(DiceStack stack, Space space) throws InvalidBuildingException {
-        if (stacks[space.rowVal()][space.colVal()] == null) {
-            stacks[space.rowVal()][space.colVal()] = new DiceStack(space);
+    /**
+     * Returns true if the die could be added at the given space without the
+     * building having any violations. The building isn't changed.
+     */
+    public boolean canAdd(Die die, Space space) {
+        if (die == null) {
+            throw new IllegalArgumentException("Die cannot be null");
+        }
+        DiceStack stack = stacks[space.rowVal()][space.colVal()];
+        return isValid && numDice < 6 && stack.canAdd(die);
+    }
+
+    /**
+     * Adds the die at the given space only if the building would have no
+     * violations afterwards. Nothing is thrown and nothing changes when the
+     * die can't be added.
+     *
+     * @return true if the die was added
+     */
+    public boolean tryAdd(Die die, Space space) {
+        if (!canAdd(die, space)) {
+            return false;
         }
+        place(die, space);
+        return true;
+    }
+
+    /**
+     * Returns the violations the building would have if the die were added at
+     * the given space. The building isn't changed.
+     */
+    public ViolationList violationsIfAdded(Die die, Space space) {
+        if (die == null) {
+            throw new IllegalArgumentException("Die cannot be null");
+        }
+        ViolationList result = new ViolationList(violations);
+        DiceStack stack = stacks[space.rowVal()][space.colVal()];
+        stack.addViolationsIfAdded(die, result);
+        if (numDice + 1 > 6) {
+            result.add(RuleViolation.BUILDING_OVERLARGE);
+        }
+        return result;
+    }
+
+    public void add(DiceStack stack, Space space) throws InvalidBuildingException {
         for (Die die : stack.getDice()) {
-            stacks[space.rowVal()][space.colVal()].add(die);
+            place(die, space);
         }
-        updateBuildingState();
 
         if (!isValid) {
             throw new InvalidBuildingException("Building has these violations: " + violations + ".");
@@ -89,7 +213,7 @@ public class Building {
         int col = space.colVal();
 
         DiceStack stack = stacks[row][col];
-        if (stack == null || level < 1 || level > stack.getHeight()) {
+        if (level < 1 || level > stack.getHeight()) {
             throw new InvalidLevelException("No die at level " + level + " at [" + (row + 1) + "," + (col + 1) + "].");
         }
 
@@ -97,8 +221,93 @@ public class Building {
     }
 
     public DiceStack getStack(Space space) {
-        DiceStack stack = stacks[space.rowVal()][space.colVal()];
-        return (stack != null) ? new DiceStack(stack) : new DiceStack(space);
+        return new DiceStack(stacks[space.rowVal()][space.colVal()]);
+    }
+
+    /**
+     * Returns a read-only view of the stack at the given space. Unlike
+     * {@link #getStack(Space)}, the stack isn't copied.
+     */
+    public DiceStackView getStackView(Space space) {
+        return stacks[space.rowVal()][space.colVal()].view();
+    }
+
+    /**
+     * Shows every die in the building to the visitor, space by space in index
+     * order and bottom to top within each stack, without copying any stack.
+     */
+    public void forEachDie(DieVisitor visitor) {
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStack stack = stacks[space.rowVal()][space.colVal()];
+            int stackHeight = stack.getHeight();
+            for (int level = 1; level <= stackHeight; level++) {
+                visitor.visit(space, level, stack.getDie(level));
+            }
+        }
+    }
+
+    /**
+     * Returns a 64-bit Zobrist hash of the dice in the building. Buildings with
+     * the same dice in the same places have the same hash, however they were
+     * built. The hash is kept up to date as dice are added and popped.
+     */
+    public long zobristHash() {
+        return hashes[Symmetry.IDENTITY.ordinal()];
+    }
+
+    /**
+     * Returns the Zobrist hash this building would have if it were turned
+     * over by the given symmetry.
+     */
+    public long hashUnder(Symmetry symmetry) {
+        return hashes[symmetry.ordinal()];
+    }
+
+    /**
+     * Returns the smallest hash over every symmetry. Buildings that are
+     * mirror images or half-turns of each other share the same canonical
+     * hash, and so the same score.
+     */
+    public long canonicalHash() {
+        long min = hashes[0];
+        for (int s = 1; s < hashes.length; s++) {
+            min = Math.min(min, hashes[s]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns a new building holding this building's dice turned over by the
+     * given symmetry.
+     */
+    public Building transformed(Symmetry symmetry) {
+        Building result = new Building();
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStack stack = stacks[space.rowVal()][space.colVal()];
+            Space target = symmetry.apply(space);
+            int stackHeight = stack.getHeight();
+            for (int level = 1; level <= stackHeight; level++) {
+                result.place(stack.getDie(level), target);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new building turned over by whichever symmetry gives the
+     * {@link #canonicalHash()}, so every orientation of a building has the
+     * same canonical form.
+     */
+    public Building canonicalForm() {
+        Symmetry best = Symmetry.IDENTITY;
+        for (Symmetry symmetry : SYMMETRIES) {
+            if (hashes[symmetry.ordinal()] < hashes[best.ordinal()]) {
+                best = symmetry;
+            }
+        }
+        return transformed(best);
     }
 
     public int getNumDice() {
@@ -118,11 +327,11 @@ public class Building {
         for (int i = 0; i < MAX_ROWS; i++) {
             for (int j = 0; j < MAX_COLS; j++) {
                 DiceStack stack = stacks[i][j];
-                if (stack != null) {
-                    for (Die die : stack.getDice()) {
-                        if (die.getMaterial() == material) {
-                            result.add(die);
-                        }
+                int stackHeight = stack.getHeight();
+                for (int level = 1; level <= stackHeight; level++) {
+                    Die die = stack.getDie(level);
+                    if (die.getMaterial() == material) {
+                        result.add(die);
                     }
                 }
             }
@@ -130,6 +339,60 @@ public class Building {
         return result;
     }
 
+    /**
+     * Returns how many dice of the given material are in the building. The
+     * count is kept up to date as dice are added, so no dice are visited.
+     */
+    public int count(Material material) {
+        return materialCounts[material.ordinal()];
+    }
+
+    /**
+     * Returns the total of the faces of all dice of the given material.
+     */
+    public int faceSum(Material material) {
+        return faceSums[material.ordinal()];
+    }
+
+    /**
+     * Returns how many dice of the given material show an odd face.
+     */
+    public int oddFaceCount(Material material) {
+        return oddFaceCounts[material.ordinal()];
+    }
+
+    /**
+     * Returns the {@link Lattice} cells holding dice of the given material.
+     * Dice above level 6 are left out, since only invalid buildings have any.
+     */
+    public long occupancy(Material material) {
+        return occupancy[material.ordinal()];
+    }
+
+    /**
+     * Returns the {@link Lattice} cells holding a die of any material.
+     */
+    public long occupancy() {
+        long all = 0L;
+        for (long mask : occupancy) {
+            all |= mask;
+        }
+        return all;
+    }
+
+    /**
+     * Returns how many dice of the given material are at the given level.
+     *
+     * @throws InvalidLevelException if the building has no dice at that level
+     */
+    public int countOnLevel(Material material, int level) {
+        if (level < 1 || level > getHeight()) {
+            throw new InvalidLevelException("Building has no die at level " + level + ".");
+        }
+        int[] counts = levelCounts[material.ordinal()];
+        return (level <= counts.length) ? counts[level - 1] : 0;
+    }
+
     public ArrayList<Die> allOnLevel(Material material, int level) {
         if (level < 1 || level > getHeight()) {
             throw new InvalidLevelException("Building has no die at level " + level + ".");
@@ -138,9 +401,9 @@ public class Building {
         for (int i = 0; i < MAX_ROWS; i++) {
             for (int j = 0; j < MAX_COLS; j++) {
                 DiceStack stack = stacks[i][j];
-                if (stack != null) {
+                if (level <= stack.getHeight()) {
                     Die die = stack.getDie(level);
-                    if (die != null && die.getMaterial() == material) {
+                    if (die.getMaterial() == material) {
                         result.add(die);
                     }
                 }
@@ -151,66 +414,200 @@ public class Building {
 
     public ArrayList<Die> allAdjacentTo(Material material) {
         ArrayList<Die> result = new ArrayList<>();
-        for (int i = 0; i < MAX_ROWS; i++) {
-            for (int j = 0; j < MAX_COLS; j++) {
-                DiceStack stack = stacks[i][j];
-                if (stack != null) {
-                    for (Die die : stack.getDice()) {
-                        Space space = Space.from(Row.at(i + 1), Col.at(j + 1));
-                        if (isAdjacentTo(space, material)) {
-                            result.add(die);
-                        }
-                    }
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStack stack = stacks[space.rowVal()][space.colVal()];
+            if (isAdjacentTo(space, material)) {
+                int stackHeight = stack.getHeight();
+                for (int level = 1; level <= stackHeight; level++) {
+                    result.add(stack.getDie(level));
                 }
             }
         }
         return result;
     }
 
-    private boolean isAdjacentTo(Space space, Material material) {
-        int[] dRow = { -1, 1, 0, 0 };
-        int[] dCol = { 0, 0, -1, 1 };
-        int r = space.rowVal();
-        int c = space.colVal();
-
-        for (int k = 0; k < 4; k++) {
-            int newRow = r + dRow[k];
-            int newCol = c + dCol[k];
-            if (newRow >= 0 && newRow < MAX_ROWS && newCol >= 0 && newCol < MAX_COLS) {
-                DiceStack adjStack = stacks[newRow][newCol];
-                if (adjStack != null) {
-                    for (Die adjDie : adjStack.getDice()) {
-                        if (adjDie.getMaterial() == material) {
-                            return true;
-                        }
-                    }
+    /**
+     * Clears the list and fills it with every die of the given material, in
+     * the same order as {@link #all(Material)}. Nothing is allocated unless
+     * the list has to grow.
+     *
+     * @return the list that was passed in
+     */
+    public DieList collectAll(Material material, DieList into) {
+        into.clear();
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStack stack = stacks[index / MAX_COLS][index % MAX_COLS];
+            int stackHeight = stack.getHeight();
+            for (int level = 1; level <= stackHeight; level++) {
+                Die die = stack.getDie(level);
+                if (die.getMaterial() == material) {
+                    into.add(die);
                 }
             }
         }
-        return false;
+        return into;
     }
 
-    private void updateBuildingState() {
-        violations = new ViolationList();
-        numDice = 0;
-        height = 0;
+    /**
+     * Clears the list and fills it with every die of the given material at
+     * the given level, like {@link #allOnLevel(Material, int)}.
+     *
+     * @return the list that was passed in
+     * @throws InvalidLevelException if the building has no dice at that level
+     */
+    public DieList collectOnLevel(Material material, int level, DieList into) {
+        if (level < 1 || level > getHeight()) {
+            throw new InvalidLevelException("Building has no die at level " + level + ".");
+        }
+        into.clear();
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStack stack = stacks[index / MAX_COLS][index % MAX_COLS];
+            if (level <= stack.getHeight()) {
+                Die die = stack.getDie(level);
+                if (die.getMaterial() == material) {
+                    into.add(die);
+                }
+            }
+        }
+        return into;
+    }
 
-        for (int i = 0; i < MAX_ROWS; i++) {
-            for (int j = 0; j < MAX_COLS; j++) {
-                DiceStack stack = stacks[i][j];
-                if (stack != null) {
-                    numDice += stack.getHeight();
-                    height = Math.max(height, stack.getHeight());
-                    violations.addAll(stack.getViolations());
+    /**
+     * Clears the list and fills it with every die at the given level,
+     * material by material and then in space order.
+     *
+     * @return the list that was passed in
+     * @throws InvalidLevelException if the building has no dice at that level
+     */
+    public DieList collectOnLevel(int level, DieList into) {
+        if (level < 1 || level > getHeight()) {
+            throw new InvalidLevelException("Building has no die at level " + level + ".");
+        }
+        // One pass over the stacks, keeping each die's code + 1 in a byte so
+        // the dice can be put in material order without another list.
+        long codes = 0;
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStack stack = stacks[index / MAX_COLS][index % MAX_COLS];
+            if (level <= stack.getHeight()) {
+                codes |= (long) (stack.getDie(level).code() + 1) << (8 * index);
+            }
+        }
+
+        into.clear();
+        for (int m = 0; m < NUM_MATERIALS; m++) {
+            for (int index = 0; index < Space.COUNT; index++) {
+                int code = (int) (codes >>> (8 * index)) & 0xFF;
+                if (code != 0 && (code - 1) / Die.FACES == m) {
+                    into.addCode(code - 1);
                 }
             }
         }
+        return into;
+    }
+
+    /**
+     * Clears the list and fills it with every die in a stack next to a stack
+     * holding the given material, like {@link #allAdjacentTo(Material)}.
+     *
+     * @return the list that was passed in
+     */
+    public DieList collectAdjacentTo(Material material, DieList into) {
+        into.clear();
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStack stack = stacks[space.rowVal()][space.colVal()];
+            if (isAdjacentTo(space, material)) {
+                int stackHeight = stack.getHeight();
+                for (int level = 1; level <= stackHeight; level++) {
+                    into.add(stack.getDie(level));
+                }
+            }
+        }
+        return into;
+    }
+
+    private boolean isAdjacentTo(Space space, Material material) {
+        for (int n = 0, count = space.neighbourCount(); n < count; n++) {
+            Space neighbour = space.neighbour(n);
+            DiceStack adjStack = stacks[neighbour.rowVal()][neighbour.colVal()];
+            int adjHeight = adjStack.getHeight();
+            for (int level = 1; level <= adjHeight; level++) {
+                if (adjStack.getDie(level).getMaterial() == material) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a die on top of the stack at the given space and updates the
+     * building's height, dice count and violations from that stack alone.
+     * Violations are never removed by adding a die, so there's no need to
+     * rescan the other stacks.
+     *
+     * @return true if the building has no violations after the die is added
+     */
+    boolean place(Die die, Space space) {
+        int row = space.rowVal();
+        int col = space.colVal();
+
+        DiceStack stack = stacks[row][col];
+        stack.add(die);
+        if (numDice == placements.length) {
+            placements = Arrays.copyOf(placements, 2 * placements.length);
+        }
+        placements[numDice] = space.index();
+        numDice++;
+        height = Math.max(height, stack.getHeight());
+        stack.addViolationsTo(violations);
+        countDie(die, space, stack.getHeight());
+        hashDie(die, space, stack.getHeight());
 
         if (numDice > 6) {
             violations.add(RuleViolation.BUILDING_OVERLARGE);
         }
 
         isValid = !violations.hasViolations();
+        return isValid;
+    }
+
+    private void countDie(Die die, Space space, int level) {
+        int m = die.getMaterial().ordinal();
+        if (level <= Lattice.LEVELS) {
+            occupancy[m] |= Lattice.bit(space, level);
+        }
+        materialCounts[m]++;
+        faceSums[m] += die.getFace();
+        oddFaceCounts[m] += die.getFace() & 1;
+        if (level > levelCounts[m].length) {
+            // Only overlarge stacks get this tall.
+            levelCounts[m] = Arrays.copyOf(levelCounts[m], Math.max(level, 2 * levelCounts[m].length));
+        }
+        levelCounts[m][level - 1]++;
+    }
+
+    /**
+     * Toggles the die in or out of the building's hashes, one hash per
+     * symmetry, so adding and removing a die use the same update.
+     */
+    private void hashDie(Die die, Space space, int level) {
+        int code = die.code();
+        for (int s = 0; s < SYMMETRIES.length; s++) {
+            hashes[s] ^= Zobrist.key(SYMMETRIES[s].apply(space.index()), level, code);
+        }
+    }
+
+    private void uncountDie(Die die, Space space, int level) {
+        int m = die.getMaterial().ordinal();
+        if (level <= Lattice.LEVELS) {
+            occupancy[m] &= ~Lattice.bit(space, level);
+        }
+        materialCounts[m]--;
+        faceSums[m] -= die.getFace();
+        oddFaceCounts[m] -= die.getFace() & 1;
+        levelCounts[m][level - 1]--;
     }
 
     @Override
@@ -237,10 +634,9 @@ public class Building {
     }
 
     private String formatSingleDiceColumn(DiceStack stack, int level) {
-        if (stack == null || stack.isEmpty()) {
+        if (level > stack.getHeight()) {
             return "--";
         }
-        Die die = stack.getDie(level);
-        return (die != null) ? die.toString() : "--";
+        return stack.getDie(level).toString();
     }
 }
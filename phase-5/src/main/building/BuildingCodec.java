@@ -0,0 +1,131 @@
+package main.building;
+
+import main.space.Space;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes buildings in a compact, versioned binary form, for shipping and
+ * archiving them.
+ * <p>
+ * An encoded building is:
+ * <ul>
+ * <li>1 byte - the format version, currently 1
+ * <li>3 bytes - the height of each of the 6 stacks as a 4-bit value, in
+ * space index order, low nibble first; the top bit of each nibble is spare
+ * and must be 0
+ * <li>1 byte per die - its {@link Die#code() code}, stack by stack, bottom
+ * to top
+ * </ul>
+ * so a full, valid building takes 10 bytes. Invalid buildings can be encoded
+ * too, as long as no stack is taller than 7; decoding one gives back a
+ * building with the same violations.
+ */
+public class BuildingCodec {
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 1 + Space.COUNT / 2;
+    private static final int MAX_STACK_HEIGHT = 7;
+    private static final int SPARE_HEIGHT_BITS = 0x88;
+
+    private BuildingCodec() {
+        throw new UnsupportedOperationException("BuildingCodec cannot be instantiated.");
+    }
+
+    /**
+     * Returns how many bytes {@link #encode(Building, ByteBuffer)} writes for
+     * the building.
+     */
+    public static int encodedSize(Building building) {
+        return HEADER_BYTES + building.getNumDice();
+    }
+
+    public static byte[] encode(Building building) {
+        byte[] bytes = new byte[encodedSize(building)];
+        encode(building, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Writes the building at the buffer's position and moves the position past
+     * it.
+     *
+     * @throws IllegalArgumentException if a stack is taller than 7
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have
+     *         {@link #encodedSize(Building)} bytes left
+     */
+    public static void encode(Building building, ByteBuffer out) {
+        out.put((byte) VERSION);
+        for (int index = 0; index < Space.COUNT; index += 2) {
+            int low = heightOf(building, index);
+            int high = heightOf(building, index + 1);
+            out.put((byte) (low | (high << 4)));
+        }
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStackView stack = building.getStackView(Space.at(index));
+            int height = stack.getHeight();
+            for (int level = 1; level <= height; level++) {
+                out.put((byte) stack.getDie(level).code());
+            }
+        }
+    }
+
+    public static Building decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        Building building = decode(in);
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Encoded building has " + in.remaining() + " bytes left over.");
+        }
+        return building;
+    }
+
+    /**
+     * Reads one building from the buffer's position and moves the position past
+     * it, so buildings written one after another can be read back in turn.
+     *
+     * @throws IllegalArgumentException if the bytes aren't an encoded building
+     */
+    public static Building decode(ByteBuffer in) {
+        try {
+            int version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported building encoding version " + version + ".");
+            }
+
+            int[] heights = new int[Space.COUNT];
+            for (int index = 0; index < Space.COUNT; index += 2) {
+                int packed = in.get() & 0xFF;
+                if ((packed & SPARE_HEIGHT_BITS) != 0) {
+                    throw new IllegalArgumentException("Spare height bits set in encoded building: "
+                            + Integer.toHexString(packed));
+                }
+                heights[index] = packed & 0x0F;
+                heights[index + 1] = packed >>> 4;
+            }
+
+            Building building = new Building();
+            for (int index = 0; index < Space.COUNT; index++) {
+                Space space = Space.at(index);
+                for (int level = 1; level <= heights[index]; level++) {
+                    int code = in.get();
+                    if (code < 0 || code >= Die.CODES) {
+                        throw new IllegalArgumentException("Invalid die code " + code + " in encoded building.");
+                    }
+                    building.place(Die.fromCode(code), space);
+                }
+            }
+            return building;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded building is truncated.");
+        }
+    }
+
+    private static int heightOf(Building building, int index) {
+        int height = building.getStackView(Space.at(index)).getHeight();
+        if (height > MAX_STACK_HEIGHT) {
+            throw new IllegalArgumentException("Can't encode a stack of " + height + " dice.");
+        }
+        return height;
+    }
+}
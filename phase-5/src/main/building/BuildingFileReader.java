@@ -1,111 +1,288 @@
 package main.building;
 
 import main.exceptions.checked.InvalidBuildingException;
-import main.logging.SimpleLogger;
+import main.logging.Loggable;
 import main.space.Col;
 import main.space.Row;
 import main.space.Space;
 
-import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Reads a building from the text format:
+ *
+ * <pre>
+ * [row.1]
+ * col.1 = "W1 G2"
+ * col.2 = "S3"
+ * </pre>
+ *
+ * The bytes are parsed in a single pass, line by line, and each die goes
+ * straight into the building; no strings are made for lines or dice unless
+ * a die is malformed and its text is needed for the exception. Dice that
+ * break a rule are kept, and each one is logged with the violations the
+ * building has once it's added.
+ */
 public class BuildingFileReader {
+    private static final byte[] ROW_PREFIX = "[row.".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COL_PREFIX = "col".getBytes(StandardCharsets.US_ASCII);
+    private static final long NOT_A_NUMBER = Long.MIN_VALUE;
 
     private BuildingFileReader() {
         throw new UnsupportedOperationException("Building cannot be initialized");
     }
 
-    public static Building load(String filePath, SimpleLogger logger)
+    public static Building load(String filePath, Loggable logger)
             throws FileNotFoundException, InvalidBuildingException {
-        StringBuilder content = new StringBuilder();
-
-        try (Scanner scanner = new Scanner(new File(filePath))) {
-            while (scanner.hasNextLine()) {
-                content.append(scanner.nextLine()).append("\n");
-            }
+        InputStream in;
+        try {
+            in = new FileInputStream(filePath);
         } catch (FileNotFoundException e) {
             throw new FileNotFoundException("Could not find building file: " + filePath);
         }
 
-        return parseBuilding(content.toString(), logger);
+        try (in) {
+            return load(in, logger);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read building file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Reads a building from a stream holding a building file. The stream
+     * isn't closed.
+     *
+     * @throws IOException             if the stream can't be read
+     * @throws InvalidBuildingException if the file is empty, or the building
+     *                                  has violations once every die is added
+     */
+    public static Building load(InputStream in, Loggable logger) throws IOException, InvalidBuildingException {
+        return parse(ByteBuffer.wrap(in.readAllBytes()), logger);
     }
 
-    private static Building parseBuilding(String data, SimpleLogger logger)
-            throws InvalidBuildingException {
-        if (data == null || data.trim().isEmpty()) {
+    /**
+     * Reads a building from the remaining bytes of a buffer holding a building
+     * file. The buffer's position isn't changed.
+     *
+     * @throws InvalidBuildingException if the file is empty, or the building
+     *                                  has violations once every die is added
+     */
+    public static Building parse(ByteBuffer data, Loggable logger) throws InvalidBuildingException {
+        int limit = data.limit();
+        if (trimStart(data, data.position(), limit) == limit) {
             throw new InvalidBuildingException("Building data cannot be empty");
         }
 
         Building building = new Building();
-        String[] lines = data.split("\n");
-
         Row currentRow = null;
 
-        for (String line : lines) {
-            line = line.trim();
-            if (line.isEmpty())
+        int lineStart = data.position();
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && !isLineBreak(data.get(lineEnd))) {
+                lineEnd++;
+            }
+            int from = trimStart(data, lineStart, lineEnd);
+            int to = trimEnd(data, from, lineEnd);
+            lineStart = lineEnd + 1;
+
+            if (from == to) {
                 continue;
+            }
 
-            if (line.startsWith("[row.") && line.endsWith("]")) {
-                try {
-                    int rowNum = Integer.parseInt(line.substring(5, line.length() - 1));
-                    currentRow = Row.at(rowNum);
-                } catch (NumberFormatException e) {
-                    currentRow = null;
-                }
+            if (startsWith(data, from, to, ROW_PREFIX) && data.get(to - 1) == ']') {
+                long rowNum = parseNumber(data, from + ROW_PREFIX.length, to - 1);
+                currentRow = (rowNum == NOT_A_NUMBER) ? null : Row.at((int) rowNum);
                 continue;
             }
 
-            if (currentRow == null)
+            if (currentRow == null || !startsWith(data, from, to, COL_PREFIX)) {
                 continue;
+            }
+            parseColumn(data, from, to, currentRow, building, logger);
+        }
 
-            if (line.startsWith("col")) {
-                int equalIndex = line.indexOf('=');
-                if (equalIndex == -1)
-                    continue;
+        if (!building.isValid()) {
+            throw new InvalidBuildingException("Building has violations.");
+        }
 
-                String colPart = line.substring(4, equalIndex).trim();
-                String diceData = line.substring(equalIndex + 1).trim().replace("\"", "");
+        return building;
+    }
 
-                int colNum;
-                try {
-                    colNum = Integer.parseInt(colPart);
-                } catch (NumberFormatException e) {
-                    continue;
-                }
+    /**
+     * Parses a line such as {@code col.2 = "W1 G2"} and adds its dice to the
+     * building. Lines with a missing or out-of-range column are skipped.
+     */
+    private static void parseColumn(ByteBuffer data, int from, int to, Row row, Building building,
+            Loggable logger) {
+        int equals = indexOf(data, from, to, '=');
+        // The column number starts after "col" and one separator character.
+        int numberStart = from + COL_PREFIX.length + 1;
+        if (equals < numberStart) {
+            return;
+        }
+
+        int numberFrom = trimStart(data, numberStart, equals);
+        long colNum = parseNumber(data, numberFrom, trimEnd(data, numberFrom, equals));
+        if (colNum < 1 || colNum > Building.MAX_COLS) {
+            return;
+        }
+
+        Col col = Col.at((int) colNum);
+        Space space = Space.from(row, col);
+
+        int valueFrom = trimStart(data, equals + 1, to);
+        int valueTo = trimEnd(data, valueFrom, to);
+
+        // Every space separates two dice, so "W1  G2" puts G2 in the third slot.
+        int slot = 0;
+        int tokenStart = valueFrom;
+        for (int i = valueFrom; i <= valueTo; i++) {
+            if (i < valueTo && data.get(i) != ' ') {
+                continue;
+            }
+            Die die = parseDie(data, tokenStart, i);
+            if (die != null && !building.place(die, space)) {
+                logger.log(String.format(
+                        "Error when adding %s at [%d,%d] to level %d. Building has these violations: %s.",
+                        die,
+                        row.getVal() + 1,
+                        col.getVal() + 1,
+                        slot + 1,
+                        building.getViolations()));
+            }
+            tokenStart = i + 1;
+            slot++;
+        }
+    }
+
+    /**
+     * Parses the die between two separators, ignoring quotes wherever they
+     * are and trimming what's left.
+     *
+     * @return the die, or null if there's nothing but quotes and whitespace
+     */
+    private static Die parseDie(ByteBuffer data, int from, int to) {
+        while (from < to && (data.get(from) == '"' || isTrimmed(data.get(from)))) {
+            from++;
+        }
+        while (to > from && (data.get(to - 1) == '"' || isTrimmed(data.get(to - 1)))) {
+            to--;
+        }
+        if (from == to) {
+            return null;
+        }
 
-                if (colNum < 1 || colNum > Building.MAX_COLS)
-                    continue;
-
-                Col col = Col.at(colNum);
-                Space space = Space.from(currentRow, col);
-
-                String[] diceArray = diceData.split(" ");
-                for (int i = 0; i < diceArray.length; i++) {
-                    String dieStr = diceArray[i].trim();
-                    if (!dieStr.isEmpty()) {
-                        Die die = new Die(dieStr);
-                        try {
-                            building.add(die, space);
-                        } catch (InvalidBuildingException e) {
-                            int level = i + 1;
-                            logger.log(String.format(
-                                    "Error when adding %s at [%d,%d] to level %d. Building has these violations: %s.",
-                                    dieStr,
-                                    currentRow.getVal() + 1,
-                                    col.getVal() + 1,
-                                    level,
-                                    building.getViolations()));
-                        }
-                    }
+        int first = -1;
+        int second = -1;
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            if (data.get(i) != '"') {
+                if (length == 0) {
+                    first = i;
+                } else if (length == 1) {
+                    second = i;
                 }
+                length++;
             }
         }
-        if (!building.isValid()) {
-            throw new InvalidBuildingException("Building has violations.");
+        if (length == 2) {
+            return Die.parse((char) (data.get(first) & 0xFF), (char) (data.get(second) & 0xFF));
         }
 
-        return building;
+        // Not a die; let Die.parse describe what's wrong with it.
+        StringBuilder text = new StringBuilder(length);
+        for (int i = from; i < to; i++) {
+            if (data.get(i) != '"') {
+                text.append((char) (data.get(i) & 0xFF));
+            }
+        }
+        return Die.parse(text);
+    }
+
+    /**
+     * Parses an optionally signed decimal number the way Integer.parseInt
+     * would, returning NOT_A_NUMBER where it would throw.
+     */
+    private static long parseNumber(ByteBuffer data, int from, int to) {
+        if (from == to) {
+            return NOT_A_NUMBER;
+        }
+        boolean negative = false;
+        byte first = data.get(from);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            from++;
+            if (from == to) {
+                return NOT_A_NUMBER;
+            }
+        }
+
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            byte b = data.get(i);
+            if (b < '0' || b > '9') {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (b - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_A_NUMBER;
+            }
+        }
+        value = negative ? -value : value;
+        return (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) ? NOT_A_NUMBER : value;
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    /**
+     * Matches String.trim(), which drops every character up to and including
+     * the space.
+     */
+    private static boolean isTrimmed(byte b) {
+        return (b & 0xFF) <= ' ';
+    }
+
+    private static int trimStart(ByteBuffer data, int from, int to) {
+        while (from < to && isTrimmed(data.get(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(ByteBuffer data, int from, int to) {
+        while (to > from && isTrimmed(data.get(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean startsWith(ByteBuffer data, int from, int to, byte[] prefix) {
+        if (to - from < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data.get(from + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer data, int from, int to, char c) {
+        for (int i = from; i < to; i++) {
+            if (data.get(i) == c) {
+                return i;
+            }
+        }
+        return -1;
     }
 }
\ No newline at end of file
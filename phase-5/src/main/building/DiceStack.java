@@ -17,6 +17,7 @@ public class DiceStack {
     private ArrayList<Die> dice;
     private int height;
     private ViolationList violations;
+    private DiceStackView view;
 
     /**
      * Default constructor that creates a DiceStack at Space(Row 1, Col 1).
@@ -60,17 +61,72 @@ public class DiceStack {
      * @throws IllegalArgumentException If the die is null.
      */
     public void add(Die die) {
+        addViolationsIfAdded(die, violations);
+        dice.add(die);
+        height++;
+    }
+
+    /**
+     * Removes the top die from the stack, leaving the stack exactly as it was
+     * before that die was added.
+     *
+     * @return The die that was removed.
+     * @throws IllegalStateException If the stack is empty.
+     */
+    public Die pop() {
+        if (dice.isEmpty()) {
+            throw new IllegalStateException("Can't pop a die from an empty stack.");
+        }
+        Die die = dice.remove(height - 1);
+        height--;
+        if (violations.hasViolations()) {
+            // Violations only ever depend on the dice that are left.
+            violations = new ViolationList();
+            for (int i = 1; i < height; i++) {
+                if (dice.get(i).getFace() < dice.get(i - 1).getFace()) {
+                    violations.add(RuleViolation.DESCENDING_DICE);
+                }
+            }
+            if (height > 6) {
+                violations.add(RuleViolation.STACK_OVERLARGE);
+            }
+        }
+        return die;
+    }
+
+    /**
+     * Returns true if the die could be added to this stack without the stack
+     * having any violations. The stack isn't changed.
+     *
+     * @param die The die that would be added.
+     * @return true if adding the die would leave the stack valid
+     * @throws IllegalArgumentException If the die is null.
+     */
+    public boolean canAdd(Die die) {
+        if (die == null) {
+            throw new IllegalArgumentException("Die cannot be null");
+        }
+        return isValid() && height < 6 && (dice.isEmpty() || die.getFace() >= dice.get(height - 1).getFace());
+    }
+
+    /**
+     * Adds the violations that adding a die on top of this stack would cause
+     * to the given list, without adding the die.
+     *
+     * @param die    The die that would be added.
+     * @param result The list to add the violations to.
+     * @throws IllegalArgumentException If the die is null.
+     */
+    void addViolationsIfAdded(Die die, ViolationList result) {
         if (die == null) {
             throw new IllegalArgumentException("Die cannot be null");
         }
         if (!dice.isEmpty() && die.getFace() < dice.get(height - 1).getFace()) {
-            violations.add(RuleViolation.DESCENDING_DICE);
+            result.add(RuleViolation.DESCENDING_DICE);
         }
         if (height >= 6) {
-            violations.add(RuleViolation.STACK_OVERLARGE);
+            result.add(RuleViolation.STACK_OVERLARGE);
         }
-        dice.add(die);
-        height++;
     }
 
     public boolean isEmpty() {
@@ -101,10 +157,31 @@ public class DiceStack {
         return new ViolationList(violations);
     }
 
+    /**
+     * Adds this stack's violations to another list without copying them first.
+     *
+     * @param other the list to add this stack's violations to
+     */
+    void addViolationsTo(ViolationList other) {
+        other.addAll(violations);
+    }
+
     public Space getSpace() {
         return space;
     }
 
+    /**
+     * Returns a read-only view of this stack that reads the dice in place.
+     *
+     * @return the view of this stack
+     */
+    public DiceStackView view() {
+        if (view == null) {
+            view = new DiceStackView(this);
+        }
+        return view;
+    }
+
     @Override
     public String toString() {
         if (dice.isEmpty()) {
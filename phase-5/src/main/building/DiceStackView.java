@@ -0,0 +1,52 @@
+package main.building;
+
+import main.space.Space;
+
+/**
+ * Represents a read-only view of a {@link DiceStack}.
+ * <p>
+ * A view reads straight from the stack it was made for, so it never copies
+ * any dice and always reflects the current state of that stack. Each stack
+ * only ever has one view.
+ */
+public final class DiceStackView {
+    private final DiceStack stack;
+
+    DiceStackView(DiceStack stack) {
+        this.stack = stack;
+    }
+
+    public boolean isEmpty() {
+        return stack.isEmpty();
+    }
+
+    public boolean isValid() {
+        return stack.isValid();
+    }
+
+    public Die getDie(int level) {
+        return stack.getDie(level);
+    }
+
+    public int getHeight() {
+        return stack.getHeight();
+    }
+
+    public Space getSpace() {
+        return stack.getSpace();
+    }
+
+    /**
+     * Returns a modifiable copy of the viewed stack.
+     *
+     * @return a new DiceStack holding the same dice as the viewed stack
+     */
+    public DiceStack copy() {
+        return new DiceStack(stack);
+    }
+
+    @Override
+    public String toString() {
+        return stack.toString();
+    }
+}
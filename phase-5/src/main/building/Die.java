@@ -7,8 +7,32 @@ import main.space.Space;
 /**
  * Represents a die with a specific material, face value, and optionally its
  * position (Space).
+ * <p>
+ * There are only 24 material/face combinations, so dice without a Space
+ * should be obtained through {@link #of(Material, int)} or
+ * {@link #parse(CharSequence, int)}, which hand out shared canonical
+ * instances instead of allocating a new Die every time.
  */
 public class Die {
+    static final int FACES = 6;
+    private static final Material[] MATERIALS = Material.values();
+
+    /**
+     * The number of distinct material/face combinations, and so the number of
+     * distinct values returned by {@link #code()}.
+     */
+    public static final int CODES = MATERIALS.length * FACES;
+
+    private static final Die[] CANONICAL = new Die[CODES];
+
+    static {
+        for (Material material : MATERIALS) {
+            for (int face = 1; face <= FACES; face++) {
+                CANONICAL[material.ordinal() * FACES + face - 1] = new Die(material, face, null);
+            }
+        }
+    }
+
     private final Material material;
     private final int face;
     private final Space space; // Optional: can be null
@@ -50,6 +74,95 @@ public class Die {
         this.space = space;
     }
 
+    /**
+     * Returns the canonical die with the given material and face.
+     *
+     * @param material the material of the die
+     * @param face     the face of the die, in [1, 6]
+     * @return the shared Die instance for that material and face
+     * @throws IllegalArgumentException if material is null
+     * @throws InvalidDieFaceException  if face is not in [1, 6]
+     */
+    public static Die of(Material material, int face) {
+        if (material == null) {
+            throw new IllegalArgumentException("Material cannot be null");
+        }
+        validateFace(face);
+        return CANONICAL[material.ordinal() * FACES + face - 1];
+    }
+
+    /**
+     * Returns the canonical die for a two-character representation such as
+     * "W3".
+     *
+     * @param representation the representation of the die
+     * @return the shared Die instance for that representation
+     * @throws IllegalArgumentException if representation isn't two characters
+     *                                  long, or holds an invalid material or
+     *                                  face
+     */
+    public static Die parse(CharSequence representation) {
+        if (representation == null || representation.length() != 2) {
+            throw new IllegalArgumentException("Invalid die representation: " + representation);
+        }
+        return parse(representation, 0);
+    }
+
+    /**
+     * Returns the canonical die whose two-character representation starts at
+     * the given offset of a larger sequence, without copying the characters
+     * out of it.
+     *
+     * @param chars  the sequence holding the representation
+     * @param offset the index of the material character
+     * @return the shared Die instance for that representation
+     * @throws IllegalArgumentException if fewer than two characters are
+     *                                  available at offset, or they hold an
+     *                                  invalid material or face
+     */
+    public static Die parse(CharSequence chars, int offset) {
+        if (chars == null || offset < 0 || offset + 2 > chars.length()) {
+            throw new IllegalArgumentException("Invalid die representation at offset " + offset + ": " + chars);
+        }
+
+        return parse(chars.charAt(offset), chars.charAt(offset + 1));
+    }
+
+    /**
+     * Returns the canonical die for a material character and a face
+     * character, such as 'W' and '3'.
+     */
+    static Die parse(char materialChar, char faceChar) {
+        Material material = parseMaterial(materialChar);
+        int face = (faceChar >= '1' && faceChar <= '6') ? faceChar - '0' : Character.getNumericValue(faceChar);
+        validateFace(face);
+        return CANONICAL[material.ordinal() * FACES + face - 1];
+    }
+
+    /**
+     * Returns the canonical die for a code returned by {@link #code()}.
+     *
+     * @param code a code in [0, 23]
+     * @return the shared Die instance for that code
+     * @throws IllegalArgumentException if code is not in [0, 23]
+     */
+    public static Die fromCode(int code) {
+        if (code < 0 || code >= CODES) {
+            throw new IllegalArgumentException("Invalid die code: " + code + ".");
+        }
+        return CANONICAL[code];
+    }
+
+    /**
+     * Returns a number in [0, 23] that identifies this die's material and
+     * face; the Space, if any, is ignored.
+     *
+     * @return material ordinal * 6 + face - 1
+     */
+    public int code() {
+        return material.ordinal() * FACES + face - 1;
+    }
+
     public Material getMaterial() {
         return material;
     }
@@ -71,7 +184,7 @@ public class Die {
         return base;
     }
 
-    private Material parseMaterial(char materialChar) {
+    private static Material parseMaterial(char materialChar) {
         switch (materialChar) {
             case 'W':
                 return Material.WOOD;
@@ -101,7 +214,7 @@ public class Die {
         }
     }
 
-    private void validateFace(int face) {
+    private static void validateFace(int face) {
         if (face < 1 || face > 6) {
             throw new InvalidDieFaceException("Invalid die face: " + face + ".");
         }
@@ -0,0 +1,178 @@
+package main.building;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * A growable list of dice stored as one byte per die, holding the die's
+ * {@link Die#code() code}.
+ * <p>
+ * A DieList is meant to be filled by the building queries that take one
+ * (such as {@link Building#collectAll(Material, DieList)}), then read and
+ * reused. Reading a die hands back the shared instance from
+ * {@link Die#fromCode(int)}, and refilling a list only allocates if it
+ * needs more room than it has ever had, so a scorer that keeps one list as a
+ * scratch buffer doesn't allocate per query. Only material and face are
+ * kept; any Space attached to an added die is dropped.
+ */
+public final class DieList {
+    private static final int DEFAULT_CAPACITY = 6;
+
+    private byte[] codes;
+    private int size;
+
+    public DieList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DieList(int capacity) {
+        codes = new byte[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every die, keeping the room already allocated.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(Die die) {
+        addCode(die.code());
+    }
+
+    /**
+     * Adds the die with the given code.
+     *
+     * @param code a die code, in [0, 23]
+     */
+    public void addCode(int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(DEFAULT_CAPACITY, 2 * codes.length));
+        }
+        codes[size++] = (byte) code;
+    }
+
+    public Die get(int index) {
+        return Die.fromCode(codeAt(index));
+    }
+
+    /**
+     * Returns the code of the die at the given index.
+     *
+     * @throws IndexOutOfBoundsException if index is not in [0, size)
+     */
+    public int codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Can't get die " + index + " of " + size + ".");
+        }
+        return codes[index];
+    }
+
+    public Material materialAt(int index) {
+        return get(index).getMaterial();
+    }
+
+    public int faceAt(int index) {
+        return get(index).getFace();
+    }
+
+    /**
+     * Returns the total of every die's face.
+     */
+    public int faceSum() {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += codes[i] % Die.FACES + 1;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the die codes, in list order.
+     */
+    public IntStream codes() {
+        return IntStream.range(0, size).map(i -> codes[i]);
+    }
+
+    /**
+     * Returns every die's face, in list order.
+     */
+    public IntStream faces() {
+        return IntStream.range(0, size).map(i -> codes[i] % Die.FACES + 1);
+    }
+
+    /**
+     * Returns an iterator over the die codes that doesn't box them. The list
+     * shouldn't be changed while the iterator is in use.
+     */
+    public PrimitiveIterator.OfInt codeIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return codes[next++];
+            }
+        };
+    }
+
+    /**
+     * Returns the dice in a new ArrayList, for code that needs one.
+     */
+    public ArrayList<Die> toArrayList() {
+        ArrayList<Die> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof DieList)) {
+            return false;
+        }
+        DieList list = (DieList) other;
+        return Arrays.equals(codes, 0, size, list.codes, 0, list.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + codes[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(" ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,12 @@
+package main.building;
+
+import main.space.Space;
+
+/**
+ * Something that can be shown every die in a {@link Building}, along with
+ * where that die is.
+ */
+@FunctionalInterface
+public interface DieVisitor {
+    void visit(Space space, int level, Die die);
+}
@@ -0,0 +1,94 @@
+package main.building;
+
+import main.space.Space;
+
+/**
+ * Numbers every cell a die can sit in within a valid building - 6 spaces by 6
+ * levels - so that a set of cells fits in a single long.
+ * <p>
+ * Cell {@code space.index() * 6 + level - 1} is bit that many of a cell mask.
+ * The cells touching each cell (beside it on the same level, and directly
+ * above and below it) are worked out once, so checking which dice touch a die
+ * is a mask AND and a bit count.
+ */
+public final class Lattice {
+    public static final int LEVELS = 6;
+    public static final int CELLS = Space.COUNT * LEVELS;
+
+    private static final long[] NEIGHBOURS = new long[CELLS];
+
+    static {
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            for (int level = 1; level <= LEVELS; level++) {
+                long mask = 0L;
+                for (Space neighbour : space.neighbours()) {
+                    mask |= bit(neighbour, level);
+                }
+                if (level > 1) {
+                    mask |= bit(space, level - 1);
+                }
+                if (level < LEVELS) {
+                    mask |= bit(space, level + 1);
+                }
+                NEIGHBOURS[cell(space, level)] = mask;
+            }
+        }
+    }
+
+    private Lattice() {
+        throw new UnsupportedOperationException("Lattice cannot be instantiated.");
+    }
+
+    /**
+     * Returns the cell number of the given level of the stack at a space.
+     *
+     * @param space the space of the stack
+     * @param level the level, in [1, 6]
+     * @return the cell number, in [0, 35]
+     */
+    public static int cell(Space space, int level) {
+        return space.index() * LEVELS + level - 1;
+    }
+
+    /**
+     * Returns the mask with only the given cell set.
+     *
+     * @param space the space of the stack
+     * @param level the level, in [1, 6]
+     * @return a mask with one bit set
+     */
+    public static long bit(Space space, int level) {
+        return 1L << cell(space, level);
+    }
+
+    /**
+     * Returns the mask of the cells touching the given cell.
+     *
+     * @param cell the cell number, in [0, 35]
+     * @return a mask of up to 6 cells
+     */
+    public static long neighbours(int cell) {
+        return NEIGHBOURS[cell];
+    }
+
+    /**
+     * Returns the level of the given cell.
+     *
+     * @param cell the cell number, in [0, 35]
+     * @return the level, in [1, 6]
+     */
+    public static int levelOf(int cell) {
+        return cell % LEVELS + 1;
+    }
+
+    /**
+     * Returns the space of the given cell.
+     *
+     * @param cell the cell number, in [0, 35]
+     * @return the space of the stack the cell is in
+     */
+    public static Space spaceOf(int cell) {
+        return Space.at(cell / LEVELS);
+    }
+}
@@ -0,0 +1,287 @@
+package main.building;
+
+import main.exceptions.checked.InvalidBuildingException;
+import main.exceptions.runtime.InvalidLevelException;
+import main.space.Space;
+
+import java.util.ArrayList;
+
+/**
+ * Represents an immutable building whose dice are packed into a single long.
+ * <p>
+ * A building can hold at most 6 dice, so every die is stored as a 5-bit code
+ * (material ordinal * 6 + face - 1) in stack order, and the height of each of
+ * the 6 stacks is stored as a 3-bit value. The layout of the packed value is:
+ * <ul>
+ * <li>bits 0-29 - up to 6 die codes, stack by stack, bottom to top
+ * <li>bits 32-49 - the height of each stack, in row-major space order
+ * </ul>
+ * Dice read back from a PackedBuilding are the canonical instances from
+ * {@link Die#of(Material, int)} and never carry a Space.
+ */
+public final class PackedBuilding {
+    public static final int MAX_DICE = 6;
+
+    private static final Material[] MATERIALS = Material.values();
+    private static final int NUM_STACKS = Space.COUNT;
+    private static final int FACES = 6;
+    private static final int DIE_BITS = 5;
+    private static final int DIE_MASK = (1 << DIE_BITS) - 1;
+    private static final int HEIGHT_BITS = 3;
+    private static final int HEIGHT_MASK = (1 << HEIGHT_BITS) - 1;
+    private static final int HEIGHTS_SHIFT = 32;
+
+    private static final PackedBuilding EMPTY = new PackedBuilding(0L);
+
+    private final long bits;
+
+    private PackedBuilding(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns an empty PackedBuilding.
+     *
+     * @return a PackedBuilding without any dice
+     */
+    public static PackedBuilding empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a PackedBuilding for a previously packed value, such as one
+     * returned by {@link #bits()}.
+     *
+     * @param bits the packed value
+     * @return a PackedBuilding holding the given packed value
+     * @throws IllegalArgumentException if bits is not a valid packed building,
+     *                                  or has bits set outside its dice and
+     *                                  heights
+     */
+    public static PackedBuilding fromBits(long bits) {
+        int numDice = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            numDice += heightAt(bits, i);
+        }
+        if (numDice > MAX_DICE || (bits >>> (HEIGHTS_SHIFT + NUM_STACKS * HEIGHT_BITS)) != 0) {
+            throw new IllegalArgumentException("Invalid packed building: " + Long.toHexString(bits));
+        }
+        // Die slots past the last die, and bits 30-31, must be clear so that
+        // every building has exactly one packed value.
+        long unusedDiceBits = ((1L << HEIGHTS_SHIFT) - 1) & -(1L << (numDice * DIE_BITS));
+        if ((bits & unusedDiceBits) != 0) {
+            throw new IllegalArgumentException("Non-canonical packed building: " + Long.toHexString(bits));
+        }
+        for (int i = 0; i < numDice; i++) {
+            if (codeAt(bits, i) >= Die.CODES) {
+                throw new IllegalArgumentException("Invalid packed building: " + Long.toHexString(bits));
+            }
+        }
+        return new PackedBuilding(bits);
+    }
+
+    /**
+     * Packs the dice of a Building.
+     *
+     * @param building the building to pack
+     * @return a PackedBuilding holding the same dice as building
+     * @throws IllegalArgumentException if building holds more than 6 dice
+     */
+    public static PackedBuilding from(Building building) {
+        if (building.getNumDice() > MAX_DICE) {
+            throw new IllegalArgumentException("Can't pack a building with more than " + MAX_DICE + " dice.");
+        }
+
+        long packed = 0L;
+        int slot = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            DiceStackView stack = building.getStackView(spaceAt(i));
+            int height = stack.getHeight();
+            for (int level = 1; level <= height; level++) {
+                packed |= (long) stack.getDie(level).code() << (slot * DIE_BITS);
+                slot++;
+            }
+            packed |= (long) height << (HEIGHTS_SHIFT + i * HEIGHT_BITS);
+        }
+        return new PackedBuilding(packed);
+    }
+
+    /**
+     * Unpacks this building into a new, mutable Building.
+     *
+     * @return a Building holding the same dice as this one
+     */
+    public Building toBuilding() {
+        Building building = new Building();
+        int slot = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            int height = heightAt(bits, i);
+            Space space = spaceAt(i);
+            for (int level = 1; level <= height; level++) {
+                try {
+                    building.add(dieOf(codeAt(bits, slot)), space);
+                } catch (InvalidBuildingException e) {
+                    // Keep going; the violations are recorded on the building itself.
+                }
+                slot++;
+            }
+        }
+        return building;
+    }
+
+    /**
+     * Returns the packed value of this building.
+     *
+     * @return the packed value
+     */
+    public long bits() {
+        return bits;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    /**
+     * Returns true if no stack has a die resting on a die with a higher face.
+     * Overlarge stacks and buildings can't be packed, so descending dice are
+     * the only possible rule violation.
+     *
+     * @return true if this building has no rule violations
+     */
+    public boolean isValid() {
+        int slot = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            int height = heightAt(bits, i);
+            for (int level = 2; level <= height; level++) {
+                if (faceOf(codeAt(bits, slot + level - 1)) < faceOf(codeAt(bits, slot + level - 2))) {
+                    return false;
+                }
+            }
+            slot += height;
+        }
+        return true;
+    }
+
+    public int getNumDice() {
+        int numDice = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            numDice += heightAt(bits, i);
+        }
+        return numDice;
+    }
+
+    public int getHeight() {
+        int height = 0;
+        for (int i = 0; i < NUM_STACKS; i++) {
+            height = Math.max(height, heightAt(bits, i));
+        }
+        return height;
+    }
+
+    public int getStackHeight(Space space) {
+        return heightAt(bits, indexOf(space));
+    }
+
+    public Die getDie(Space space, int level) {
+        int index = indexOf(space);
+        if (level < 1 || level > heightAt(bits, index)) {
+            throw new InvalidLevelException(
+                    "No die at level " + level + " at [" + (space.rowVal() + 1) + "," + (space.colVal() + 1) + "].");
+        }
+        return dieOf(codeAt(bits, firstSlotOf(index) + level - 1));
+    }
+
+    public DiceStack getStack(Space space) {
+        int index = indexOf(space);
+        int first = firstSlotOf(index);
+        int height = heightAt(bits, index);
+
+        DiceStack stack = new DiceStack(space);
+        for (int slot = first; slot < first + height; slot++) {
+            stack.add(dieOf(codeAt(bits, slot)));
+        }
+        return stack;
+    }
+
+    public ArrayList<Die> all(Material material) {
+        ArrayList<Die> result = new ArrayList<>();
+        int numDice = getNumDice();
+        for (int slot = 0; slot < numDice; slot++) {
+            int code = codeAt(bits, slot);
+            if (materialOf(code) == material) {
+                result.add(dieOf(code));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns how many dice of the given material this building holds, without
+     * creating any Die objects.
+     *
+     * @param material the material to count
+     * @return the number of dice of that material
+     */
+    public int count(Material material) {
+        int count = 0;
+        int numDice = getNumDice();
+        for (int slot = 0; slot < numDice; slot++) {
+            if (materialOf(codeAt(bits, slot)) == material) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PackedBuilding && ((PackedBuilding) other).bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return toBuilding().toString();
+    }
+
+    private int firstSlotOf(int index) {
+        int slot = 0;
+        for (int i = 0; i < index; i++) {
+            slot += heightAt(bits, i);
+        }
+        return slot;
+    }
+
+    private static int heightAt(long bits, int index) {
+        return (int) (bits >>> (HEIGHTS_SHIFT + index * HEIGHT_BITS)) & HEIGHT_MASK;
+    }
+
+    private static int codeAt(long bits, int slot) {
+        return (int) (bits >>> (slot * DIE_BITS)) & DIE_MASK;
+    }
+
+    private static Material materialOf(int code) {
+        return MATERIALS[code / FACES];
+    }
+
+    private static int faceOf(int code) {
+        return code % FACES + 1;
+    }
+
+    private static Die dieOf(int code) {
+        return Die.fromCode(code);
+    }
+
+    private static int indexOf(Space space) {
+        return space.index();
+    }
+
+    private static Space spaceAt(int index) {
+        return Space.at(index);
+    }
+}
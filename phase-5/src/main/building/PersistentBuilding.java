@@ -0,0 +1,185 @@
+package main.building;
+
+import main.exceptions.checked.InvalidBuildingException;
+import main.exceptions.runtime.InvalidLevelException;
+import main.space.Space;
+import main.violations.RuleViolation;
+import main.violations.ViolationList;
+
+import java.util.ArrayList;
+
+/**
+ * Represents an immutable building that can be shared between threads without
+ * locks or copies.
+ * <p>
+ * Adding a die with {@link #with(Die, Space)} returns a new building that only
+ * copies the stack the die was added to; the other five stacks are shared with
+ * the building it came from. Stacks are never changed once a PersistentBuilding
+ * holds them, so sharing them is safe.
+ */
+public final class PersistentBuilding {
+    private static final PersistentBuilding EMPTY = new PersistentBuilding(emptyStacks(), 0, 0, new ViolationList());
+
+    private final DiceStack[] stacks;
+    private final DiceStackView[] views;
+    private final int height;
+    private final int numDice;
+    private final ViolationList violations;
+
+    private PersistentBuilding(DiceStack[] stacks, int height, int numDice, ViolationList violations) {
+        this.stacks = stacks;
+        this.height = height;
+        this.numDice = numDice;
+        this.violations = violations;
+        this.views = new DiceStackView[Space.COUNT];
+        for (int index = 0; index < Space.COUNT; index++) {
+            views[index] = stacks[index].view();
+        }
+    }
+
+    /**
+     * Returns an empty PersistentBuilding.
+     *
+     * @return a PersistentBuilding without any dice
+     */
+    public static PersistentBuilding empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a PersistentBuilding holding the same dice as a mutable Building.
+     * The stacks are copied once, so later changes to building don't show up
+     * in the result.
+     *
+     * @param building the building to take a snapshot of
+     * @return an immutable snapshot of building
+     */
+    public static PersistentBuilding from(Building building) {
+        DiceStack[] stacks = new DiceStack[Space.COUNT];
+        for (int index = 0; index < Space.COUNT; index++) {
+            stacks[index] = building.getStack(Space.at(index));
+        }
+        return new PersistentBuilding(stacks, building.getHeight(), building.getNumDice(),
+                building.getViolations());
+    }
+
+    /**
+     * Returns a new building with the die added on top of the stack at the
+     * given space. Like {@link Building#add(Die, Space)}, the die is kept even
+     * when it breaks a rule; check {@link #isValid()} on the result.
+     *
+     * @param die   the die to add
+     * @param space the space of the stack to add the die to
+     * @return a new building sharing every other stack with this one
+     */
+    public PersistentBuilding with(Die die, Space space) {
+        int index = space.index();
+        DiceStack stack = new DiceStack(stacks[index]);
+        stack.add(die);
+
+        DiceStack[] newStacks = stacks.clone();
+        newStacks[index] = stack;
+
+        int newNumDice = numDice + 1;
+        ViolationList newViolations = new ViolationList(violations);
+        stack.addViolationsTo(newViolations);
+        if (newNumDice > 6) {
+            newViolations.add(RuleViolation.BUILDING_OVERLARGE);
+        }
+
+        return new PersistentBuilding(newStacks, Math.max(height, stack.getHeight()), newNumDice, newViolations);
+    }
+
+    /**
+     * Returns a new, mutable Building holding the same dice as this one.
+     *
+     * @return a Building that can be changed independently of this one
+     */
+    public Building toBuilding() {
+        Building building = new Building();
+        for (int index = 0; index < Space.COUNT; index++) {
+            if (!stacks[index].isEmpty()) {
+                try {
+                    building.add(stacks[index], Space.at(index));
+                } catch (InvalidBuildingException e) {
+                    // Keep going; the violations are recorded on the building itself.
+                }
+            }
+        }
+        return building;
+    }
+
+    public boolean isEmpty() {
+        return numDice == 0;
+    }
+
+    public boolean isValid() {
+        return !violations.hasViolations();
+    }
+
+    public Die getDie(Space space, int level) {
+        DiceStack stack = stacks[space.index()];
+        if (level < 1 || level > stack.getHeight()) {
+            throw new InvalidLevelException(
+                    "No die at level " + level + " at [" + (space.rowVal() + 1) + "," + (space.colVal() + 1) + "].");
+        }
+        return stack.getDie(level);
+    }
+
+    public DiceStack getStack(Space space) {
+        return new DiceStack(stacks[space.index()]);
+    }
+
+    public DiceStackView getStackView(Space space) {
+        return views[space.index()];
+    }
+
+    public int getNumDice() {
+        return numDice;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public ViolationList getViolations() {
+        return new ViolationList(violations);
+    }
+
+    public ArrayList<Die> all(Material material) {
+        ArrayList<Die> result = new ArrayList<>();
+        forEachDie((space, level, die) -> {
+            if (die.getMaterial() == material) {
+                result.add(die);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Shows every die in the building to the visitor, space by space in index
+     * order and bottom to top within each stack.
+     */
+    public void forEachDie(DieVisitor visitor) {
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStack stack = stacks[index];
+            int stackHeight = stack.getHeight();
+            for (int level = 1; level <= stackHeight; level++) {
+                visitor.visit(Space.at(index), level, stack.getDie(level));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toBuilding().toString();
+    }
+
+    private static DiceStack[] emptyStacks() {
+        DiceStack[] stacks = new DiceStack[Space.COUNT];
+        for (int index = 0; index < Space.COUNT; index++) {
+            stacks[index] = new DiceStack(Space.at(index));
+        }
+        return stacks;
+    }
+}
@@ -0,0 +1,51 @@
+package main.building;
+
+import main.space.Space;
+
+/**
+ * Holds the random keys used to hash buildings.
+ * <p>
+ * Every (space, level, die) combination gets its own 64-bit key, and a
+ * building's hash is the XOR of the keys of all of its dice. That means a
+ * hash can be updated in O(1) when a die is added or removed, and two
+ * buildings with the same dice in the same places always hash the same, no
+ * matter what order the dice were added in.
+ */
+final class Zobrist {
+    private static final int LEVELS = 6;
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long[] KEYS = new long[Space.COUNT * LEVELS * Die.CODES];
+
+    static {
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = mix(SEED + i);
+        }
+    }
+
+    private Zobrist() {
+        throw new UnsupportedOperationException("Zobrist cannot be instantiated.");
+    }
+
+    /**
+     * Returns the key for a die with the given code at the given level of the
+     * stack at the space with the given index.
+     */
+    static long key(int spaceIndex, int level, int dieCode) {
+        if (level > LEVELS) {
+            // Only overlarge stacks get this tall, so there's no table entry.
+            return mix(SEED + KEYS.length + ((long) level * Space.COUNT + spaceIndex) * Die.CODES + dieCode);
+        }
+        return KEYS[((spaceIndex * LEVELS) + level - 1) * Die.CODES + dieCode];
+    }
+
+    /**
+     * The SplitMix64 finalizer, which spreads the bits of consecutive inputs
+     * all over the output.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
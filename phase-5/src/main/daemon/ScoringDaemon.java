@@ -0,0 +1,282 @@
+package main.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.building.BuildingFileReader;
+import main.exceptions.checked.InvalidBuildingException;
+import main.logging.Loggable;
+import main.presenters.TextFileScoringResultPresenter;
+import main.scoringresult.ScoringPipeline;
+import main.scoringresult.ScoringResult;
+
+/**
+ * Scores buildings for clients connected over a loopback socket, so tools
+ * that score one building at a time don't pay for a JVM start each time.
+ * <p>
+ * A client sends any number of requests on one connection, each in the
+ * existing text formats:
+ *
+ * <pre>
+ * BLUEPRINT
+ * 11
+ * 22
+ * 33
+ * BUILDING
+ * [row.1]
+ * col.1 = "W5"
+ * END
+ * </pre>
+ *
+ * and gets back the same score sheet {@link TextFileScoringResultPresenter}
+ * writes, followed by a line holding {@code END}. A request that can't be
+ * read gets {@code ERROR <message>} and {@code END} instead, and the
+ * connection stays open.
+ * <p>
+ * Every connection holds one thread from a fixed-size pool for as long as
+ * it's open, and all of them share one {@link ScoringPipeline}. To keep a
+ * misbehaving client from using up the daemon:
+ * <ul>
+ * <li>at most {@code maxClients} connections are served at once; any more
+ * get an error and are closed straight away
+ * <li>a request longer than {@link #MAX_REQUEST_BYTES} is answered with an
+ * error once its END arrives, and isn't kept in memory
+ * <li>a connection that sends nothing for {@link #IDLE_TIMEOUT_MILLIS} is
+ * closed
+ * </ul>
+ */
+public class ScoringDaemon implements Closeable {
+    public static final String BLUEPRINT = "BLUEPRINT";
+    public static final String BUILDING = "BUILDING";
+    public static final String END = "END";
+    public static final String ERROR = "ERROR";
+
+    public static final int DEFAULT_MAX_CLIENTS = 64;
+    public static final int MAX_REQUEST_BYTES = 64 * 1024;
+    public static final int IDLE_TIMEOUT_MILLIS = 30_000;
+
+    private static final int BACKLOG = 128;
+
+    private final ServerSocket server;
+    private final ThreadPoolExecutor clients;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ScoringPipeline pipeline;
+    private final Loggable logger;
+
+    /**
+     * Opens the daemon's socket on the loopback address, serving at most
+     * {@link #DEFAULT_MAX_CLIENTS} connections at once.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the socket can't be opened
+     */
+    public ScoringDaemon(int port, ScoringPipeline pipeline, Loggable logger) throws IOException {
+        this(port, DEFAULT_MAX_CLIENTS, pipeline, logger);
+    }
+
+    /**
+     * Opens the daemon's socket on the loopback address.
+     *
+     * @param port       the port to listen on, or 0 for any free port
+     * @param maxClients how many connections can be served at once
+     * @throws IOException if the socket can't be opened
+     */
+    public ScoringDaemon(int port, int maxClients, ScoringPipeline pipeline, Loggable logger) throws IOException {
+        if (maxClients < 1) {
+            throw new IllegalArgumentException("A daemon needs to serve at least one client, not " + maxClients + ".");
+        }
+        this.server = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        // No queue: a connection either gets a thread now or is turned away.
+        this.clients = new ThreadPoolExecutor(maxClients, maxClients, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), task -> {
+                    Thread thread = new Thread(task, "scoring-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.pipeline = pipeline;
+        // Clients log rejected dice while their buildings are read, and
+        // loggers aren't expected to be thread-safe.
+        this.logger = msg -> {
+            synchronized (logger) {
+                logger.log(msg);
+            }
+        };
+    }
+
+    /**
+     * Returns the port the daemon is listening on.
+     */
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Accepts connections on a background thread and returns straight away.
+     */
+    public void start() {
+        Thread acceptor = new Thread(this::serve, "scoring-daemon");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Accepts connections on the calling thread until the daemon is closed.
+     */
+    public void serve() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.add(socket);
+                try {
+                    clients.execute(() -> handle(socket));
+                } catch (RejectedExecutionException e) {
+                    connections.remove(socket);
+                    turnAway(socket);
+                }
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    logger.log("Failed to accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes every open one.
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+        clients.shutdownNow();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Answers one request given as the lines between the start of the
+     * request and END.
+     *
+     * @return the score sheet, or an error line, followed by END
+     */
+    public String answer(List<String> request) {
+        try {
+            return TextFileScoringResultPresenter.formatResult(score(request)) + END + "\n";
+        } catch (InvalidBuildingException | RuntimeException e) {
+            // Whatever goes wrong with one request, the client gets an answer
+            // and the connection stays usable.
+            return error(e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    private ScoringResult score(List<String> request) throws InvalidBuildingException {
+        int building = request.indexOf(BUILDING);
+        if (request.isEmpty() || !request.get(0).equals(BLUEPRINT) || building < 0) {
+            throw new IllegalArgumentException("Expected a BLUEPRINT section followed by a BUILDING section.");
+        }
+
+        Blueprint blueprint = new Blueprint(String.join("\n", request.subList(1, building)));
+        String buildingText = String.join("\n", request.subList(building + 1, request.size()));
+        Building parsed = BuildingFileReader.parse(
+                ByteBuffer.wrap(buildingText.getBytes(StandardCharsets.US_ASCII)), logger);
+        return pipeline.score(blueprint, parsed);
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                Writer out = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+
+            List<String> request = new ArrayList<>();
+            int requestBytes = 0;
+            String line;
+            while ((line = readLine(in)) != null) {
+                line = line.trim();
+                if (line.equals(END)) {
+                    out.write(requestBytes > MAX_REQUEST_BYTES
+                            ? error("Request is longer than " + MAX_REQUEST_BYTES + " bytes.")
+                            : answer(request));
+                    out.flush();
+                    request.clear();
+                    requestBytes = 0;
+                    continue;
+                }
+                if (line.isEmpty() && request.isEmpty()) {
+                    continue;
+                }
+
+                requestBytes += line.length() + 1;
+                if (requestBytes > MAX_REQUEST_BYTES) {
+                    request.clear();
+                } else {
+                    request.add(line);
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            // The client went quiet; closing the socket frees its thread.
+        } catch (IOException e) {
+            if (!server.isClosed()) {
+                logger.log("Connection failed: " + e.getMessage());
+            }
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private void turnAway(Socket socket) {
+        try (socket) {
+            socket.getOutputStream().write(
+                    error("Too many clients; try again later.").getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            logger.log("Failed to turn away a connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one line, keeping no more of it than could fit in a request so a
+     * client can't make the daemon hold an endless line.
+     *
+     * @return the line, or null at the end of the stream
+     */
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() <= MAX_REQUEST_BYTES) {
+                line.append((char) c);
+            }
+            c = in.read();
+        }
+        return line.toString();
+    }
+
+    private static String error(String message) {
+        return ERROR + " " + message + "\n" + END + "\n";
+    }
+}
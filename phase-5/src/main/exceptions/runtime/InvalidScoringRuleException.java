@@ -0,0 +1,10 @@
+package main.exceptions.runtime;
+
+public class InvalidScoringRuleException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidScoringRuleException(String msg) {
+        super(msg);
+    }
+
+}
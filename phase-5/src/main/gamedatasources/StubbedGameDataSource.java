@@ -28,13 +28,13 @@ public class StubbedGameDataSource implements GameDataSource {
         Building building = new Building();
 
         try {
-            building.add(new Die("R2"), Space.from(Row.at(2), Col.at(1)));
-            building.add(new Die("G4"), Space.from(Row.at(2), Col.at(1)));
-            building.add(new Die("W5"), Space.from(Row.at(2), Col.at(1)));
+            building.add(Die.parse("R2"), Space.from(Row.at(2), Col.at(1)));
+            building.add(Die.parse("G4"), Space.from(Row.at(2), Col.at(1)));
+            building.add(Die.parse("W5"), Space.from(Row.at(2), Col.at(1)));
 
-            building.add(new Die("G1"), Space.from(Row.at(2), Col.at(2)));
-            building.add(new Die("W4"), Space.from(Row.at(2), Col.at(2)));
-            building.add(new Die("S6"), Space.from(Row.at(2), Col.at(2)));
+            building.add(Die.parse("G1"), Space.from(Row.at(2), Col.at(2)));
+            building.add(Die.parse("W4"), Space.from(Row.at(2), Col.at(2)));
+            building.add(Die.parse("S6"), Space.from(Row.at(2), Col.at(2)));
             return building;
         } catch (InvalidBuildingException ex) {
             throw new GameDataSourceException("Game data source contains invalid building." + ex.getMessage());
@@ -0,0 +1,70 @@
+package main.presenters;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import main.exceptions.checked.ScoringResultPresenterException;
+import main.scoringresult.ScoringResult;
+
+/**
+ * Writes many results to one file (or other writer), each as the same score
+ * sheet {@link TextFileScoringResultPresenter} writes, separated by a blank
+ * line. Output is buffered until the presenter is flushed or closed, so
+ * presenting thousands of results doesn't mean thousands of small writes.
+ * <p>
+ * A presenter isn't meant to be shared between threads; have one thread
+ * present every result.
+ */
+public class BufferedScoringResultPresenter implements ScoringResultPresenter, Closeable {
+
+    private final Writer writer;
+    private boolean first = true;
+
+    public BufferedScoringResultPresenter(String resultPath) throws IOException {
+        this(new FileWriter(resultPath));
+    }
+
+    public BufferedScoringResultPresenter(Writer writer) {
+        this.writer = new BufferedWriter(writer);
+    }
+
+    @Override
+    public void present(ScoringResult result) throws ScoringResultPresenterException {
+        write(TextFileScoringResultPresenter.formatResult(result));
+    }
+
+    /**
+     * Presents a result under a heading naming where it came from.
+     */
+    public void present(String name, ScoringResult result) throws ScoringResultPresenterException {
+        write("=== " + name + " ===\n" + TextFileScoringResultPresenter.formatResult(result));
+    }
+
+    public void flush() throws ScoringResultPresenterException {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new ScoringResultPresenterException("Failed to write scoring results: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void write(String sheet) throws ScoringResultPresenterException {
+        try {
+            if (!first) {
+                writer.write("\n");
+            }
+            writer.write(sheet);
+            first = false;
+        } catch (IOException e) {
+            throw new ScoringResultPresenterException("Failed to write scoring result: " + e.getMessage(), e);
+        }
+    }
+}
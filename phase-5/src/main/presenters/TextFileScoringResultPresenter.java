@@ -4,16 +4,13 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 
-import main.blueprint.Blueprint;
-import main.building.Building;
 import main.exceptions.checked.ScoringResultPresenterException;
+import main.scoringresult.ScoreCategory;
 import main.scoringresult.ScoringResult;
 
 public class TextFileScoringResultPresenter implements ScoringResultPresenter {
 
     private final String RESULT_PATH;
-    private Blueprint blueprint;
-    private Building building;
 
     public TextFileScoringResultPresenter(String resultPath) {
         this.RESULT_PATH = resultPath;
@@ -28,31 +25,27 @@ public class TextFileScoringResultPresenter implements ScoringResultPresenter {
         }
     }
 
-    private String formatResult(ScoringResult result) {
+    /**
+     * Formats a result as a score sheet: the blueprint, the building, a table
+     * of every category's score and the building's rule violations.
+     */
+    public static String formatResult(ScoringResult result) {
         StringBuilder sb = new StringBuilder();
 
-        sb.append(blueprint.toString()).append("\n");
+        sb.append(result.blueprint().toString()).append("\n");
         sb.append("\n");
-        sb.append(building.toString()).append("\n");
+        sb.append(result.building().toString()).append("\n");
 
         sb.append("+-----------+----+\n");
-
-        int glass = result.breakdown().getOrDefault("glass", 0);
-        int recycled = result.breakdown().getOrDefault("recycled", 0);
-        int stone = result.breakdown().getOrDefault("stone", 0);
-        int wood = result.breakdown().getOrDefault("wood", 0);
-        int bonus = result.breakdown().getOrDefault("**bonus**", 0);
-
-        sb.append(String.format("| glass     |  %d |\n", glass));
-        sb.append(String.format("| recycled  |  %d |\n", recycled));
-        sb.append(String.format("| stone     |  %d |\n", stone));
-        sb.append(String.format("| wood      |  %d |\n", wood));
-        sb.append(String.format("| **bonus** |  %d |\n", bonus));
+        for (ScoreCategory category : ScoreCategory.values()) {
+            sb.append(String.format("| %-9s | %2d |\n", category.label(), result.score(category)));
+        }
         sb.append("+===========+====+\n");
-        sb.append(String.format("| total     |  %d|\n", result.totalScore()));
+        sb.append(String.format("| total     | %2d |\n", result.totalScore()));
         sb.append("+-----------+----+\n");
+        sb.append("\n");
 
-        sb.append("Rule violations: NONE\n"); // Replace with actual violations if available
+        sb.append("Rule violations: ").append(result.violations()).append("\n");
 
         return sb.toString();
     }
@@ -0,0 +1,133 @@
+package main.scorers;
+
+import main.building.Building;
+import main.space.Space;
+
+import java.util.Arrays;
+
+/**
+ * Holds the dice of many buildings in primitive arrays, one array per
+ * property, so that the scorers' {@code scoreAll} methods can score every
+ * building in a tight loop without touching any Building, DiceStack or Die
+ * objects.
+ * <p>
+ * The dice of building {@code b} are at positions {@code start(b)} up to
+ * (but not including) {@code start(b + 1)} of the die columns, in space index
+ * order and bottom to top within each stack.
+ */
+public class BuildingBatch {
+    private static final int INITIAL_BUILDINGS = 16;
+    private static final int INITIAL_DICE = 6 * INITIAL_BUILDINGS;
+
+    // Die columns.
+    byte[] materials;
+    byte[] faces;
+    byte[] levels;
+    byte[] spaces;
+
+    // Building columns; stackHeights has Space.COUNT entries per building.
+    int[] starts;
+    boolean[] valid;
+    byte[] stackHeights;
+
+    private int size;
+    private int numDice;
+
+    public BuildingBatch() {
+        materials = new byte[INITIAL_DICE];
+        faces = new byte[INITIAL_DICE];
+        levels = new byte[INITIAL_DICE];
+        spaces = new byte[INITIAL_DICE];
+        starts = new int[INITIAL_BUILDINGS + 1];
+        valid = new boolean[INITIAL_BUILDINGS];
+        stackHeights = new byte[INITIAL_BUILDINGS * Space.COUNT];
+    }
+
+    /**
+     * Adds a copy of a building's dice to the end of the batch.
+     *
+     * @param building the building to add
+     * @return the position of the building in the batch
+     */
+    public int add(Building building) {
+        ensureBuildingCapacity(size + 1);
+        ensureDiceCapacity(numDice + building.getNumDice());
+
+        building.forEachDie((space, level, die) -> {
+            materials[numDice] = (byte) die.getMaterial().ordinal();
+            faces[numDice] = (byte) die.getFace();
+            levels[numDice] = (byte) level;
+            spaces[numDice] = (byte) space.index();
+            numDice++;
+        });
+        for (int index = 0; index < Space.COUNT; index++) {
+            stackHeights[size * Space.COUNT + index] = (byte) building.getStackView(Space.at(index)).getHeight();
+        }
+        valid[size] = building.isValid();
+        size++;
+        starts[size] = numDice;
+        return size - 1;
+    }
+
+    /**
+     * Returns how many buildings are in the batch.
+     *
+     * @return the number of buildings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns how many dice are in the batch, over all buildings.
+     *
+     * @return the number of dice
+     */
+    public int numDice() {
+        return numDice;
+    }
+
+    public boolean isValid(int building) {
+        return valid[building];
+    }
+
+    /**
+     * Removes every building from the batch, keeping the arrays so the batch
+     * can be filled again without allocating.
+     */
+    public void clear() {
+        size = 0;
+        numDice = 0;
+    }
+
+    int start(int building) {
+        return starts[building];
+    }
+
+    int end(int building) {
+        return starts[building + 1];
+    }
+
+    int stackHeight(int building, int spaceIndex) {
+        return stackHeights[building * Space.COUNT + spaceIndex];
+    }
+
+    private void ensureBuildingCapacity(int buildings) {
+        if (buildings > valid.length) {
+            int capacity = Math.max(buildings, 2 * valid.length);
+            starts = Arrays.copyOf(starts, capacity + 1);
+            valid = Arrays.copyOf(valid, capacity);
+            stackHeights = Arrays.copyOf(stackHeights, capacity * Space.COUNT);
+        }
+    }
+
+    private void ensureDiceCapacity(int dice) {
+        if (dice > materials.length) {
+            int capacity = Math.max(dice, 2 * materials.length);
+            materials = Arrays.copyOf(materials, capacity);
+            faces = Arrays.copyOf(faces, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            spaces = Arrays.copyOf(spaces, capacity);
+        }
+    }
+}
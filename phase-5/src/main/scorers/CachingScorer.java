@@ -0,0 +1,48 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.PackedBuilding;
+
+/**
+ * Wraps another scorer so that buildings it has already scored are looked up
+ * in a {@link ScoreCache} instead of being scored again.
+ * <p>
+ * Valid buildings are keyed by their {@link PackedBuilding#bits()}, which
+ * holds every die of the building exactly, so a cached score is always the
+ * score the wrapped scorer would give. Invalid buildings always score 0, so
+ * they skip the cache.
+ */
+public class CachingScorer extends Scorer {
+
+    private final Scorer scorer;
+    private final ScoreCache<MaterialScore> cache;
+
+    /**
+     * Constructs a CachingScorer for the wrapped scorer's building.
+     *
+     * @param scorer the scorer to wrap
+     * @param cache  the cache to use; it should only ever be shared with
+     *               scorers of the same kind as scorer
+     */
+    public CachingScorer(Scorer scorer, ScoreCache<MaterialScore> cache) {
+        super(scorer.getBuilding());
+        this.scorer = scorer;
+        this.cache = cache;
+    }
+
+    @Override
+    public MaterialScore score() {
+        Building building = getBuilding();
+        if (!building.isValid()) {
+            return scorer.score();
+        }
+
+        long key = PackedBuilding.from(building).bits();
+        MaterialScore score = cache.get(key);
+        if (score == null) {
+            score = scorer.score();
+            cache.put(key, score);
+        }
+        return score;
+    }
+}
@@ -0,0 +1,41 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.PackedBuilding;
+
+/**
+ * A {@link ScoringEngine} that caches the full set of material scores for
+ * every valid building it scores, keyed by the building's
+ * {@link PackedBuilding#bits()}.
+ * <p>
+ * Cached results are the exact ScoreCard the engine worked out the first time,
+ * so they're identical to uncached scoring. The engine can be shared between
+ * threads.
+ */
+public class CachingScoringEngine extends ScoringEngine {
+
+    private final ScoreCache<ScoreCard> cache;
+
+    public CachingScoringEngine(ScoreCache<ScoreCard> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public ScoreCard score(Building building) {
+        if (!building.isValid()) {
+            return super.score(building);
+        }
+
+        long key = PackedBuilding.from(building).bits();
+        ScoreCard card = cache.get(key);
+        if (card == null) {
+            card = super.score(building);
+            cache.put(key, card);
+        }
+        return card;
+    }
+
+    public ScoreCache<ScoreCard> getCache() {
+        return cache;
+    }
+}
@@ -1,13 +1,17 @@
 package main.scorers;
 
 import main.building.Building;
-import main.building.Die;
+import main.building.DieList;
 import main.building.Material;
 
-import java.util.ArrayList;
-
 public class CustomScorer extends Scorer {
 
+    /**
+     * A list to refill for each query instead of asking for a new ArrayList
+     * every time.
+     */
+    private final DieList scratch = new DieList();
+
     public CustomScorer(Building building) {
         super(building);
     }
@@ -18,7 +22,7 @@ public class CustomScorer extends Scorer {
             return new MaterialScore(Material.GLASS, 0);
         }
 
-        ArrayList<Die> glassDice = allIn(Material.GLASS);
+        DieList glassDice = diceIn(Material.GLASS, scratch);
         if (glassDice.isEmpty()) {
             return new MaterialScore(Material.GLASS, 0);
         }
@@ -27,8 +31,8 @@ public class CustomScorer extends Scorer {
         boolean allEven = true;
         int total = 0;
 
-        for (Die die : glassDice) {
-            int face = die.getFace();
+        for (int i = 0; i < glassDice.size(); i++) {
+            int face = glassDice.faceAt(i);
             total += face;
             if (face % 2 == 0) {
                 allOdd = false;
@@ -43,4 +47,30 @@ public class CustomScorer extends Scorer {
             return new MaterialScore(Material.GLASS, 0);
         }
     }
+
+    /**
+     * Returns the custom glass score of every building in the batch, in batch
+     * order.
+     */
+    public static int[] scoreAll(BuildingBatch batch) {
+        int[] scores = new int[batch.size()];
+        int glass = Material.GLASS.ordinal();
+        for (int b = 0; b < scores.length; b++) {
+            if (!batch.valid[b]) {
+                continue;
+            }
+            int total = 0;
+            int odd = 0;
+            int count = 0;
+            for (int i = batch.start(b), end = batch.end(b); i < end; i++) {
+                if (batch.materials[i] == glass) {
+                    total += batch.faces[i];
+                    odd += batch.faces[i] & 1;
+                    count++;
+                }
+            }
+            scores[b] = (odd == 0 || odd == count) ? total : 0;
+        }
+        return scores;
+    }
 }
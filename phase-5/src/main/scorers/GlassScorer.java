@@ -1,11 +1,8 @@
 package main.scorers;
 
 import main.building.Building;
-import main.building.Die;
 import main.building.Material;
 
-import java.util.ArrayList;
-
 public class GlassScorer extends Scorer {
 
     public GlassScorer(Building building) {
@@ -18,12 +15,27 @@ public class GlassScorer extends Scorer {
             return new MaterialScore(Material.GLASS, 0);
         }
 
-        ArrayList<Die> glassDice = allIn(Material.GLASS);
-        int total = 0;
-        for (Die die : glassDice) {
-            total += die.getFace();
-        }
+        return new MaterialScore(Material.GLASS, faceSumIn(Material.GLASS));
+    }
 
-        return new MaterialScore(Material.GLASS, total);
+    /**
+     * Returns the glass score of every building in the batch, in batch order.
+     */
+    public static int[] scoreAll(BuildingBatch batch) {
+        int[] scores = new int[batch.size()];
+        int glass = Material.GLASS.ordinal();
+        for (int b = 0; b < scores.length; b++) {
+            if (!batch.valid[b]) {
+                continue;
+            }
+            int total = 0;
+            for (int i = batch.start(b), end = batch.end(b); i < end; i++) {
+                if (batch.materials[i] == glass) {
+                    total += batch.faces[i];
+                }
+            }
+            scores[b] = total;
+        }
+        return scores;
     }
 }
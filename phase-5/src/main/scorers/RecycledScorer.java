@@ -15,7 +15,14 @@ public class RecycledScorer extends Scorer {
             return new MaterialScore(Material.RECYCLED, 0);
         }
 
-        int count = countIn(Material.RECYCLED);
+        return new MaterialScore(Material.RECYCLED, scoreForCount(countIn(Material.RECYCLED)));
+    }
+
+    /**
+     * Returns the recycled score for a building holding the given number of
+     * recycled dice.
+     */
+    static int scoreForCount(int count) {
         int score;
 
         switch (count) {
@@ -41,6 +48,28 @@ public class RecycledScorer extends Scorer {
                 score = 0;
         }
 
-        return new MaterialScore(Material.RECYCLED, score);
+        return score;
+    }
+
+    /**
+     * Returns the recycled score of every building in the batch, in batch
+     * order.
+     */
+    public static int[] scoreAll(BuildingBatch batch) {
+        int[] scores = new int[batch.size()];
+        int recycled = Material.RECYCLED.ordinal();
+        for (int b = 0; b < scores.length; b++) {
+            if (!batch.valid[b]) {
+                continue;
+            }
+            int count = 0;
+            for (int i = batch.start(b), end = batch.end(b); i < end; i++) {
+                if (batch.materials[i] == recycled) {
+                    count++;
+                }
+            }
+            scores[b] = scoreForCount(count);
+        }
+        return scores;
     }
 }
@@ -0,0 +1,26 @@
+package main.scorers;
+
+import main.building.Building;
+
+/**
+ * Scores a building with a {@link ScoringRule}, so a rule loaded from config
+ * can be used anywhere a hand-written Scorer can.
+ */
+public class RuleScorer extends Scorer {
+
+    private final ScoringRule rule;
+
+    public RuleScorer(Building building, ScoringRule rule) {
+        super(building);
+        this.rule = rule;
+    }
+
+    @Override
+    public MaterialScore score() {
+        return new MaterialScore(rule.getMaterial(), rule.score(getBuilding()));
+    }
+
+    public ScoringRule getRule() {
+        return rule;
+    }
+}
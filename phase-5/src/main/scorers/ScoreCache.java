@@ -0,0 +1,186 @@
+package main.scorers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of scores keyed by a compact building key,
+ * such as {@link main.building.PackedBuilding#bits()}.
+ * <p>
+ * Large caches are split into segments, each with its own lock, so threads
+ * looking up different buildings rarely wait on each other. When a segment
+ * is full, its oldest entry is evicted; with {@link Policy#LRU} "oldest"
+ * means least recently used, and with {@link Policy#FIFO} it means least
+ * recently added.
+ * <p>
+ * A cache should only ever hold one kind of score, so use a separate cache
+ * for each scorer.
+ *
+ * @param <V> the kind of score held in the cache
+ */
+public class ScoreCache<V> {
+
+    /**
+     * How a full cache picks the entry to evict.
+     */
+    public enum Policy {
+        LRU,
+        FIFO
+    }
+
+    private static final int SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment<V>[] segments;
+    private final int maxSize;
+    private final Policy policy;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxSize the most entries the cache will hold
+     * @param policy  how entries are picked for eviction
+     * @throws IllegalArgumentException if maxSize is less than 1 or policy is
+     *                                  null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ScoreCache(int maxSize, Policy policy) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+        this.maxSize = maxSize;
+        this.policy = policy;
+
+        // Small caches get a single segment so that eviction order is exact.
+        int numSegments = Math.max(1, Math.min(SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+        segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++) {
+            int segmentSize = maxSize / numSegments + (i < maxSize % numSegments ? 1 : 0);
+            segments[i] = new Segment<>(segmentSize, policy == Policy.LRU);
+        }
+    }
+
+    /**
+     * Returns the score cached for a key, or null if there isn't one.
+     *
+     * @param key the building key
+     * @return the cached score, or null
+     */
+    public V get(long key) {
+        Segment<V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Caches a score for a key, evicting an older entry if the cache is full.
+     *
+     * @param key   the building key
+     * @param value the score to cache
+     * @throws IllegalArgumentException if value is null
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cached score cannot be null");
+        }
+        Segment<V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+            if (segment.evicted) {
+                segment.evicted = false;
+                evictions.increment();
+            }
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    /**
+     * Removes every entry from the cache. The counters are kept.
+     */
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScoreCache[%s, size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+                policy, size(), maxSize, hits(), misses(), evictions());
+    }
+
+    private Segment<V> segmentFor(long key) {
+        long spread = key ^ (key >>> 32);
+        spread ^= spread >>> 16;
+        return segments[(int) Math.floorMod(spread, (long) segments.length)];
+    }
+
+    /**
+     * One independently locked part of the cache. LinkedHashMap keeps its
+     * entries in access or insertion order, which is all that LRU and FIFO
+     * eviction need.
+     */
+    private static class Segment<V> extends LinkedHashMap<Long, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private boolean evicted;
+
+        Segment(int capacity, boolean accessOrder) {
+            super(16, 0.75f, accessOrder);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+            evicted = size() > capacity;
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package main.scorers;
+
+import main.building.Material;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the score of every material for one building, as worked out by a
+ * {@link ScoringEngine}.
+ * <p>
+ * The glass score follows {@link GlassScorer}; the score {@link CustomScorer}
+ * would give is kept separately, since it's an alternative glass rule and
+ * isn't part of the total.
+ */
+public class ScoreCard {
+    private static final Material[] MATERIALS = Material.values();
+
+    private final int[] scores;
+    private final int customScore;
+
+    ScoreCard(int[] scores, int customScore) {
+        this.scores = scores;
+        this.customScore = customScore;
+    }
+
+    public int get(Material material) {
+        return scores[material.ordinal()];
+    }
+
+    public MaterialScore score(Material material) {
+        return new MaterialScore(material, get(material));
+    }
+
+    /**
+     * Returns the glass score that {@link CustomScorer} would give.
+     *
+     * @return the custom glass score
+     */
+    public MaterialScore customScore() {
+        return new MaterialScore(Material.GLASS, customScore);
+    }
+
+    /**
+     * Returns one score per material, in material order.
+     *
+     * @return a list of every material's score
+     */
+    public List<MaterialScore> scores() {
+        List<MaterialScore> result = new ArrayList<>(MATERIALS.length);
+        for (Material material : MATERIALS) {
+            result.add(score(material));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sum of every material's score.
+     *
+     * @return the total material score
+     */
+    public int total() {
+        int total = 0;
+        for (int score : scores) {
+            total += score;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return scores() + ", total: " + total();
+    }
+}
@@ -0,0 +1,220 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.DiceStackView;
+import main.building.Material;
+import main.space.Space;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Looks up the score of any valid building in a memory-mapped table written
+ * by {@link ScoreTableGenerator}.
+ * <p>
+ * Only the glass score depends on die faces, and it's just the glass face
+ * total that every Building already keeps. Every other score only depends on
+ * which material is in which cell, so the table holds one entry per
+ * <em>layout</em>: a set of stack heights adding up to at most 6 dice, and a
+ * material for each die. There are 2,186,601 layouts, and
+ * {@link #indexOf(Building)} numbers them with no gaps or collisions (a
+ * minimal perfect hash), so a lookup is a single read from the table.
+ * <p>
+ * The file starts with a 16-byte header (magic, version, entry count, entry
+ * size), followed by 3 bytes per layout: the wood, stone and recycled scores.
+ */
+public class ScoreTable {
+    static final int MAGIC = 0x42505354; // "BPST"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int ENTRY_BYTES = 3;
+
+    static final int MAX_DICE = 6;
+    private static final int HEIGHT_RADIX = MAX_DICE + 1;
+    private static final int[] OFFSETS;
+    static final int ENTRIES;
+
+    static {
+        int keys = 1;
+        for (int i = 0; i < Space.COUNT; i++) {
+            keys *= HEIGHT_RADIX;
+        }
+        OFFSETS = new int[keys];
+
+        int next = 0;
+        for (int key = 0; key < keys; key++) {
+            int numDice = numDiceOf(key);
+            if (numDice <= MAX_DICE) {
+                OFFSETS[key] = next;
+                next += 1 << (2 * numDice);
+            } else {
+                OFFSETS[key] = -1;
+            }
+        }
+        ENTRIES = next;
+    }
+
+    private final ByteBuffer table;
+
+    private ScoreTable(ByteBuffer table) {
+        this.table = table;
+    }
+
+    /**
+     * Memory-maps a table file written by {@link ScoreTableGenerator}.
+     *
+     * @param path the path of the table file
+     * @return a ScoreTable reading from the file
+     * @throws IOException if the file can't be read or isn't a score table
+     */
+    public static ScoreTable open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (table.limit() < HEADER_BYTES
+                    || table.getInt(0) != MAGIC
+                    || table.getInt(4) != VERSION
+                    || table.getInt(8) != ENTRIES
+                    || table.getInt(12) != ENTRY_BYTES
+                    || table.limit() != HEADER_BYTES + (long) ENTRIES * ENTRY_BYTES) {
+                throw new IOException("Not a score table: " + path);
+            }
+            return new ScoreTable(table);
+        }
+    }
+
+    /**
+     * Returns the score of a building for one material. Nothing is allocated.
+     *
+     * @param building the building to score
+     * @param material the material to score
+     * @return the same score as that material's Scorer would give
+     */
+    public int score(Building building, Material material) {
+        if (!building.isValid()) {
+            return 0;
+        }
+        if (material == Material.GLASS) {
+            return building.faceSum(Material.GLASS);
+        }
+        return table.get(HEADER_BYTES + indexOf(building) * ENTRY_BYTES + byteOf(material)) & 0xFF;
+    }
+
+    /**
+     * Returns the sum of every material's score for a building. Nothing is
+     * allocated.
+     *
+     * @param building the building to score
+     * @return the total material score
+     */
+    public int total(Building building) {
+        if (!building.isValid()) {
+            return 0;
+        }
+        int position = HEADER_BYTES + indexOf(building) * ENTRY_BYTES;
+        return building.faceSum(Material.GLASS)
+                + (table.get(position) & 0xFF)
+                + (table.get(position + 1) & 0xFF)
+                + (table.get(position + 2) & 0xFF);
+    }
+
+    /**
+     * Returns every material score for a building, and its custom glass
+     * score.
+     *
+     * @param building the building to score
+     * @return the same scores as {@link ScoringEngine} would give
+     */
+    public ScoreCard scoreCard(Building building) {
+        int[] scores = new int[Material.values().length];
+        for (Material material : Material.values()) {
+            scores[material.ordinal()] = score(building, material);
+        }
+        return new ScoreCard(scores, customScore(building));
+    }
+
+    /**
+     * Returns the custom glass score for a building: the glass face total if
+     * every glass die is odd or every one is even, and 0 otherwise. It comes
+     * straight from the building's counters, not the table.
+     */
+    private static int customScore(Building building) {
+        if (!building.isValid()) {
+            return 0;
+        }
+        int odd = building.oddFaceCount(Material.GLASS);
+        boolean allOddOrAllEven = odd == 0 || odd == building.count(Material.GLASS);
+        return allOddOrAllEven ? building.faceSum(Material.GLASS) : 0;
+    }
+
+    /**
+     * Returns the table position of a valid building's layout.
+     *
+     * @param building a building with at most 6 dice
+     * @return an index in [0, 2186601)
+     */
+    static int indexOf(Building building) {
+        int heightsKey = 0;
+        int weight = 1;
+        int materials = 0;
+        int slot = 0;
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStackView stack = building.getStackView(Space.at(index));
+            int height = stack.getHeight();
+            heightsKey += height * weight;
+            weight *= HEIGHT_RADIX;
+            for (int level = 1; level <= height; level++) {
+                materials |= stack.getDie(level).getMaterial().ordinal() << (2 * slot);
+                slot++;
+            }
+        }
+        return OFFSETS[heightsKey] + materials;
+    }
+
+    /**
+     * Returns the stack heights for a heights key, or null if the key holds
+     * more than 6 dice.
+     */
+    static int[] heightsOf(int heightsKey) {
+        if (OFFSETS[heightsKey] < 0) {
+            return null;
+        }
+        int[] heights = new int[Space.COUNT];
+        for (int index = 0; index < Space.COUNT; index++) {
+            heights[index] = heightsKey % HEIGHT_RADIX;
+            heightsKey /= HEIGHT_RADIX;
+        }
+        return heights;
+    }
+
+    static int heightsKeys() {
+        return OFFSETS.length;
+    }
+
+    /**
+     * Returns which of an entry's bytes holds the given material's score.
+     */
+    static int byteOf(Material material) {
+        switch (material) {
+            case WOOD:
+                return 0;
+            case STONE:
+                return 1;
+            case RECYCLED:
+                return 2;
+            default:
+                throw new IllegalArgumentException("No table entry for " + material);
+        }
+    }
+
+    private static int numDiceOf(int heightsKey) {
+        int numDice = 0;
+        while (heightsKey > 0) {
+            numDice += heightsKey % HEIGHT_RADIX;
+            heightsKey /= HEIGHT_RADIX;
+        }
+        return numDice;
+    }
+}
@@ -0,0 +1,100 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Material;
+import main.space.Space;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the table file read by {@link ScoreTable}.
+ * <p>
+ * Every layout (stack heights plus a material per die) is built once, with
+ * every die showing a 1 so no stack is descending, and scored by the real
+ * {@link WoodScorer}, {@link StoneScorer} and {@link RecycledScorer}. That
+ * way the table can never disagree with the scorers.
+ */
+public class ScoreTableGenerator {
+    private static final String DEFAULT_PATH = "score-table.bin";
+    private static final Material[] MATERIALS = Material.values();
+
+    private ScoreTableGenerator() {
+        throw new UnsupportedOperationException("ScoreTableGenerator cannot be instantiated.");
+    }
+
+    /**
+     * Writes the table to the path given as the first argument, or to
+     * score-table.bin if there isn't one.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : DEFAULT_PATH);
+        long start = System.nanoTime();
+        generate(path);
+        System.out.printf("Wrote %d layouts to %s in %d ms.%n", ScoreTable.ENTRIES, path,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Scores every layout and writes the table file.
+     *
+     * @param path the path to write the table to
+     * @throws IOException if the file can't be written
+     */
+    public static void generate(Path path) throws IOException {
+        ByteBuffer table = ByteBuffer.allocate(ScoreTable.HEADER_BYTES + ScoreTable.ENTRIES * ScoreTable.ENTRY_BYTES);
+        table.putInt(ScoreTable.MAGIC);
+        table.putInt(ScoreTable.VERSION);
+        table.putInt(ScoreTable.ENTRIES);
+        table.putInt(ScoreTable.ENTRY_BYTES);
+
+        Building building = new Building();
+        for (int key = 0; key < ScoreTable.heightsKeys(); key++) {
+            int[] heights = ScoreTable.heightsOf(key);
+            if (heights == null) {
+                continue;
+            }
+            int numDice = 0;
+            for (int height : heights) {
+                numDice += height;
+            }
+
+            for (int materials = 0; materials < 1 << (2 * numDice); materials++) {
+                int slot = 0;
+                for (int index = 0; index < Space.COUNT; index++) {
+                    for (int level = 1; level <= heights[index]; level++) {
+                        Material material = MATERIALS[(materials >>> (2 * slot)) & 3];
+                        building.push(Die.of(material, 1), Space.at(index));
+                        slot++;
+                    }
+                }
+
+                int position = ScoreTable.HEADER_BYTES + ScoreTable.indexOf(building) * ScoreTable.ENTRY_BYTES;
+                putScore(table, position, Material.WOOD, new WoodScorer(building).score());
+                putScore(table, position, Material.STONE, new StoneScorer(building).score());
+                putScore(table, position, Material.RECYCLED, new RecycledScorer(building).score());
+
+                for (int i = 0; i < numDice; i++) {
+                    building.pop();
+                }
+            }
+        }
+
+        table.rewind();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (table.hasRemaining()) {
+                channel.write(table);
+            }
+        }
+    }
+
+    private static void putScore(ByteBuffer table, int position, Material material, MaterialScore score) {
+        table.put(position + ScoreTable.byteOf(material), (byte) score.getScore());
+    }
+}
@@ -2,6 +2,7 @@ package main.scorers;
 
 import java.util.ArrayList;
 import main.building.Building;
+import main.building.DieList;
 import main.building.Material;
 import main.building.Die;
 
@@ -18,7 +19,11 @@ public abstract class Scorer {
     }
 
     public int countIn(Material material) {
-        return building.all(material).size();
+        return building.count(material);
+    }
+
+    public int faceSumIn(Material material) {
+        return building.faceSum(material);
     }
 
     public ArrayList<Die> allOnLevel(int level, Material material) {
@@ -37,6 +42,30 @@ public abstract class Scorer {
         return building.allAdjacentTo(material);
     }
 
+    /**
+     * Fills the list with every die of the given material, without
+     * allocating a new list.
+     */
+    public DieList diceIn(Material material, DieList into) {
+        return building.collectAll(material, into);
+    }
+
+    /**
+     * Fills the list with every die at the given level, material by material,
+     * without allocating a new list.
+     */
+    public DieList diceOnLevel(int level, DieList into) {
+        return building.collectOnLevel(level, into);
+    }
+
+    /**
+     * Fills the list with every die in a stack next to a stack holding the
+     * given material.
+     */
+    public DieList diceAdjacentTo(Material material, DieList into) {
+        return building.collectAdjacentTo(material, into);
+    }
+
     public Building getBuilding() {
         return building;
     }
@@ -0,0 +1,151 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.DiceStackView;
+import main.building.Die;
+import main.building.Lattice;
+import main.building.Material;
+import main.space.Space;
+
+/**
+ * Works out every material score for a building in a single pass over its
+ * dice.
+ * <p>
+ * The results are identical to running {@link GlassScorer},
+ * {@link RecycledScorer}, {@link StoneScorer}, {@link WoodScorer} and
+ * {@link CustomScorer} one after another, but each die is only visited once
+ * and no stack is copied. An engine holds no state, so one engine can score
+ * any number of buildings, from any number of threads.
+ * <p>
+ * {@link #deltaIfAdded(Building, Die, Space)} answers "how would the scores
+ * change if this die went here?" from the building's counters and occupancy
+ * masks alone, without copying or changing the building.
+ */
+public class ScoringEngine {
+    private static final int NUM_MATERIALS = Material.values().length;
+
+    public ScoreCard score(Building building) {
+        int[] scores = new int[NUM_MATERIALS];
+        if (!building.isValid()) {
+            return new ScoreCard(scores, 0);
+        }
+
+        int glassSum = 0;
+        boolean allOdd = true;
+        boolean allEven = true;
+        int recycledCount = 0;
+        int stoneScore = 0;
+
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStackView stack = building.getStackView(space);
+            int height = stack.getHeight();
+
+            for (int level = 1; level <= height; level++) {
+                Die die = stack.getDie(level);
+                switch (die.getMaterial()) {
+                    case GLASS:
+                        glassSum += die.getFace();
+                        if (die.getFace() % 2 == 0) {
+                            allOdd = false;
+                        } else {
+                            allEven = false;
+                        }
+                        break;
+                    case RECYCLED:
+                        recycledCount++;
+                        break;
+                    case STONE:
+                        stoneScore += StoneScorer.scoreForLevel(level);
+                        break;
+                    case WOOD:
+                        // Scored below from the building's occupancy masks.
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected material: " + die.getMaterial());
+                }
+            }
+        }
+
+        scores[Material.GLASS.ordinal()] = glassSum;
+        scores[Material.RECYCLED.ordinal()] = RecycledScorer.scoreForCount(recycledCount);
+        scores[Material.STONE.ordinal()] = stoneScore;
+        scores[Material.WOOD.ordinal()] = WoodScorer.scoreFor(building);
+
+        return new ScoreCard(scores, (allOdd || allEven) ? glassSum : 0);
+    }
+
+    /**
+     * Returns how much every material score would change if the die were
+     * added on top of the stack at the given space. The building isn't
+     * changed or copied.
+     * <p>
+     * When the die can be added without breaking a rule, every score is
+     * worked out from the die and the building's counters, so the cost
+     * doesn't depend on the size of the building. When it can't, the
+     * building would score nothing afterwards, so the result is the
+     * building's current score made negative (or all zeros if the building
+     * is already invalid).
+     *
+     * @param building the building the die would be added to
+     * @param die      the die to add
+     * @param space    the space of the stack to add the die to
+     * @return the score after adding the die minus the score before
+     */
+    public ScoreCard deltaIfAdded(Building building, Die die, Space space) {
+        int[] deltas = new int[NUM_MATERIALS];
+        if (!building.canAdd(die, space)) {
+            if (!building.isValid()) {
+                return new ScoreCard(deltas, 0);
+            }
+            ScoreCard current = score(building);
+            for (Material material : Material.values()) {
+                deltas[material.ordinal()] = -current.get(material);
+            }
+            return new ScoreCard(deltas, -current.customScore().getScore());
+        }
+
+        int level = building.getStackView(space).getHeight() + 1;
+        int cell = Lattice.cell(space, level);
+        long touching = Lattice.neighbours(cell);
+
+        // Every wood die the new die touches gains a neighbour...
+        int woodDelta = 2 * Long.bitCount(touching & building.occupancy(Material.WOOD));
+        int customDelta = 0;
+        switch (die.getMaterial()) {
+            case GLASS:
+                deltas[Material.GLASS.ordinal()] = die.getFace();
+                int count = building.count(Material.GLASS);
+                int odd = building.oddFaceCount(Material.GLASS);
+                int sum = building.faceSum(Material.GLASS);
+                customDelta = customScoreFor(count + 1, odd + (die.getFace() & 1), sum + die.getFace())
+                        - customScoreFor(count, odd, sum);
+                break;
+            case RECYCLED:
+                int recycled = building.count(Material.RECYCLED);
+                deltas[Material.RECYCLED.ordinal()] = RecycledScorer.scoreForCount(recycled + 1)
+                        - RecycledScorer.scoreForCount(recycled);
+                break;
+            case STONE:
+                deltas[Material.STONE.ordinal()] = StoneScorer.scoreForLevel(level);
+                break;
+            case WOOD:
+                // ...and a new wood die scores for every die it touches.
+                woodDelta += 2 * Long.bitCount(touching & building.occupancy());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected material: " + die.getMaterial());
+        }
+        deltas[Material.WOOD.ordinal()] = woodDelta;
+
+        return new ScoreCard(deltas, customDelta);
+    }
+
+    /**
+     * Returns the {@link CustomScorer} score of a building's glass dice, given
+     * how many there are, how many show an odd face and their face total.
+     */
+    private static int customScoreFor(int count, int odd, int sum) {
+        return (odd == 0 || odd == count) ? sum : 0;
+    }
+}
@@ -0,0 +1,350 @@
+package main.scorers;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Lattice;
+import main.building.Material;
+import main.exceptions.runtime.InvalidScoringRuleException;
+
+import java.util.Locale;
+
+/**
+ * A scoring rule written in a small text language and compiled once into a
+ * chain of lambdas, so it can be loaded from a config file and still score
+ * as fast as a hand-written {@link Scorer}.
+ * <p>
+ * A rule picks out the dice of one material, optionally narrows them down,
+ * optionally checks the whole selection, and then turns it into a score:
+ *
+ * <pre>
+ * score &lt;material&gt; [filter ...] [if &lt;check&gt; [or &lt;check&gt; ...]] as &lt;score&gt;
+ *
+ * filter: on level &lt;range&gt; | face &lt;range&gt; | odd | even | touching &lt;material&gt;
+ * check:  all odd | all even | count &lt;range&gt;
+ * score:  sum face           - the total of the selected faces
+ *         each &lt;n&gt;           - n points per selected die
+ *         touching &lt;n&gt;       - n points for every die touching a selected die
+ *         level table &lt;list&gt; - the list's entry for each die's level
+ *         count table &lt;list&gt; - the list's entry for the number of dice
+ * range:  3 | 2..4 | 2..
+ * list:   2,3,5,8 (entries past the end repeat the last one)
+ * </pre>
+ *
+ * The built-in scorers are all rules:
+ *
+ * <pre>
+ * score glass as sum face
+ * score recycled as count table 0,2,5,10,15,20,30
+ * score stone as level table 2,3,5,8
+ * score wood as touching 2
+ * score glass if all odd or all even as sum face
+ * </pre>
+ *
+ * Like the scorers, an invalid building scores 0 under every rule. A
+ * compiled rule holds no state, so it can be shared between threads.
+ */
+public final class ScoringRule {
+
+    @FunctionalInterface
+    private interface DieFilter {
+        boolean test(Building building, int cell, Die die);
+
+        default DieFilter and(DieFilter other) {
+            return (building, cell, die) -> test(building, cell, die) && other.test(building, cell, die);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DieValue {
+        int of(Building building, int cell, Die die);
+    }
+
+    @FunctionalInterface
+    private interface SelectionCheck {
+        boolean test(int count, int odd);
+
+        default SelectionCheck or(SelectionCheck other) {
+            return (count, odd) -> test(count, odd) || other.test(count, odd);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Total {
+        int of(int sum, int count);
+    }
+
+    private final String source;
+    private final Material material;
+    private final DieFilter filter;
+    private final SelectionCheck check;
+    private final DieValue value;
+    private final Total total;
+
+    private ScoringRule(String source, Material material, DieFilter filter, SelectionCheck check,
+            DieValue value, Total total) {
+        this.source = source;
+        this.material = material;
+        this.filter = filter;
+        this.check = check;
+        this.value = value;
+        this.total = total;
+    }
+
+    /**
+     * Compiles a rule written in the rule language.
+     *
+     * @param source the text of the rule
+     * @return the compiled rule
+     * @throws InvalidScoringRuleException if the text isn't a valid rule
+     */
+    public static ScoringRule compile(String source) {
+        return new Parser(source).parse();
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    /**
+     * Returns the score of a building under this rule. Only the dice of the
+     * rule's material are visited, and nothing is allocated.
+     *
+     * @param building the building to score
+     * @return the score, or 0 if the building is invalid
+     */
+    public int score(Building building) {
+        if (!building.isValid()) {
+            return 0;
+        }
+
+        int sum = 0;
+        int count = 0;
+        int odd = 0;
+        for (long cells = building.occupancy(material); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            Die die = building.getStackView(Lattice.spaceOf(cell)).getDie(Lattice.levelOf(cell));
+            if (filter.test(building, cell, die)) {
+                sum += value.of(building, cell, die);
+                count++;
+                odd += die.getFace() & 1;
+            }
+        }
+
+        return check.test(count, odd) ? total.of(sum, count) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Reads a rule one word at a time, building up the lambdas as it goes.
+     */
+    private static final class Parser {
+        private final String source;
+        private final String[] words;
+        private int next;
+
+        private Parser(String source) {
+            this.source = source.trim();
+            this.words = this.source.isEmpty() ? new String[0] : this.source.toLowerCase(Locale.ROOT).split("\\s+");
+        }
+
+        private ScoringRule parse() {
+            expect("score");
+            Material material = material();
+
+            DieFilter filter = null;
+            while (!at("if") && !at("as")) {
+                DieFilter clause = filter();
+                filter = (filter == null) ? clause : filter.and(clause);
+            }
+            if (filter == null) {
+                filter = (building, cell, die) -> true;
+            }
+
+            SelectionCheck check = (count, odd) -> true;
+            if (at("if")) {
+                next++;
+                check = check();
+                while (at("or")) {
+                    next++;
+                    check = check.or(check());
+                }
+            }
+
+            expect("as");
+            ScoringRule rule = score(material, filter, check);
+            if (next < words.length) {
+                throw error("Unexpected '" + words[next] + "'");
+            }
+            return rule;
+        }
+
+        private DieFilter filter() {
+            String word = word("a filter, 'if' or 'as'");
+            switch (word) {
+                case "on": {
+                    expect("level");
+                    int[] range = range();
+                    return (building, cell, die) -> inRange(Lattice.levelOf(cell), range);
+                }
+                case "face": {
+                    int[] range = range();
+                    return (building, cell, die) -> inRange(die.getFace(), range);
+                }
+                case "odd":
+                    return (building, cell, die) -> (die.getFace() & 1) == 1;
+                case "even":
+                    return (building, cell, die) -> (die.getFace() & 1) == 0;
+                case "touching": {
+                    Material other = material();
+                    return (building, cell, die) -> (Lattice.neighbours(cell) & building.occupancy(other)) != 0;
+                }
+                default:
+                    throw error("Unknown filter '" + word + "'");
+            }
+        }
+
+        private SelectionCheck check() {
+            String word = word("a check");
+            switch (word) {
+                case "all": {
+                    String parity = word("'odd' or 'even'");
+                    if (parity.equals("odd")) {
+                        return (count, odd) -> odd == count;
+                    }
+                    if (parity.equals("even")) {
+                        return (count, odd) -> odd == 0;
+                    }
+                    throw error("Expected 'odd' or 'even' but found '" + parity + "'");
+                }
+                case "count": {
+                    int[] range = range();
+                    return (count, odd) -> inRange(count, range);
+                }
+                default:
+                    throw error("Unknown check '" + word + "'");
+            }
+        }
+
+        private ScoringRule score(Material material, DieFilter filter, SelectionCheck check) {
+            String word = word("a score");
+            DieValue value;
+            Total total = (sum, count) -> sum;
+            switch (word) {
+                case "sum":
+                    expect("face");
+                    value = (building, cell, die) -> die.getFace();
+                    break;
+                case "each": {
+                    int points = number();
+                    value = (building, cell, die) -> points;
+                    break;
+                }
+                case "touching": {
+                    int points = number();
+                    value = (building, cell, die) ->
+                            points * Long.bitCount(Lattice.neighbours(cell) & building.occupancy());
+                    break;
+                }
+                case "level": {
+                    expect("table");
+                    int[] table = table();
+                    value = (building, cell, die) -> lookUp(table, Lattice.levelOf(cell) - 1);
+                    break;
+                }
+                case "count": {
+                    expect("table");
+                    int[] table = table();
+                    value = (building, cell, die) -> 0;
+                    total = (sum, count) -> lookUp(table, count);
+                    break;
+                }
+                default:
+                    throw error("Unknown score '" + word + "'");
+            }
+            return new ScoringRule(source, material, filter, check, value, total);
+        }
+
+        private Material material() {
+            String word = word("a material");
+            try {
+                return Material.valueOf(word.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw error("Unknown material '" + word + "'");
+            }
+        }
+
+        /**
+         * Reads a range as {min, max}; "2.." has no maximum.
+         */
+        private int[] range() {
+            String word = word("a number or range");
+            int dots = word.indexOf("..");
+            if (dots < 0) {
+                int value = parseNumber(word);
+                return new int[] {value, value};
+            }
+            int min = parseNumber(word.substring(0, dots));
+            String rest = word.substring(dots + 2);
+            int max = rest.isEmpty() ? Integer.MAX_VALUE : parseNumber(rest);
+            if (max < min) {
+                throw error("Empty range '" + word + "'");
+            }
+            return new int[] {min, max};
+        }
+
+        private int[] table() {
+            String[] entries = word("a list of numbers").split(",");
+            int[] table = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                table[i] = parseNumber(entries[i]);
+            }
+            return table;
+        }
+
+        private int number() {
+            return parseNumber(word("a number"));
+        }
+
+        private int parseNumber(String word) {
+            try {
+                return Integer.parseInt(word);
+            } catch (NumberFormatException e) {
+                throw error("Expected a number but found '" + word + "'");
+            }
+        }
+
+        private boolean at(String word) {
+            return next < words.length && words[next].equals(word);
+        }
+
+        private void expect(String word) {
+            String found = word("'" + word + "'");
+            if (!found.equals(word)) {
+                throw error("Expected '" + word + "' but found '" + found + "'");
+            }
+        }
+
+        private String word(String expected) {
+            if (next >= words.length) {
+                throw error("Expected " + expected + " at the end of the rule");
+            }
+            return words[next++];
+        }
+
+        private InvalidScoringRuleException error(String message) {
+            return new InvalidScoringRuleException(message + " in rule: " + source);
+        }
+    }
+
+    private static boolean inRange(int value, int[] range) {
+        return value >= range[0] && value <= range[1];
+    }
+
+    private static int lookUp(int[] table, int index) {
+        return table[Math.min(index, table.length - 1)];
+    }
+}
@@ -0,0 +1,59 @@
+package main.scorers;
+
+import main.exceptions.runtime.InvalidScoringRuleException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utility class for loading a set of {@link ScoringRule}s from a file.
+ * <p>
+ * A rule file has one rule per line. Blank lines and lines starting with '#'
+ * are skipped. Every rule is compiled as it's loaded, so a mistake anywhere
+ * in the file is reported before any building is scored.
+ */
+public class ScoringRules {
+
+    private ScoringRules() {
+        throw new UnsupportedOperationException("ScoringRules cannot be instantiated.");
+    }
+
+    /**
+     * Loads and compiles every rule in a rule file.
+     *
+     * @param path the path to the rule file
+     * @return the compiled rules, in file order
+     * @throws IOException                 if the file can't be read
+     * @throws InvalidScoringRuleException if any line isn't a valid rule
+     */
+    public static List<ScoringRule> load(Path path) throws IOException {
+        return parse(Files.readAllLines(path));
+    }
+
+    /**
+     * Compiles every rule in the given lines.
+     *
+     * @param lines the lines of a rule file
+     * @return the compiled rules, in line order
+     * @throws InvalidScoringRuleException if any line isn't a valid rule
+     */
+    public static List<ScoringRule> parse(List<String> lines) {
+        List<ScoringRule> rules = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                rules.add(ScoringRule.compile(line));
+            } catch (InvalidScoringRuleException e) {
+                throw new InvalidScoringRuleException("Line " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        return Collections.unmodifiableList(rules);
+    }
+}
@@ -3,10 +3,8 @@ package main.scorers;
 import main.building.Building;
 import main.building.Die;
 import main.building.Material;
-import main.building.DiceStack;
+import main.building.DiceStackView;
 import main.space.Space;
-import main.space.Row;
-import main.space.Col;
 
 public class StoneScorer extends Scorer {
 
@@ -22,17 +20,14 @@ public class StoneScorer extends Scorer {
 
         int totalScore = 0;
 
-        for (int row = 1; row <= Building.MAX_ROWS; row++) {
-            for (int col = 1; col <= Building.MAX_COLS; col++) {
-                Space space = Space.from(Row.at(row), Col.at(col));
-                DiceStack stack = getBuilding().getStack(space);
-                int height = stack.getHeight();
-
-                for (int level = 1; level <= height; level++) {
-                    Die die = stack.getDie(level);
-                    if (die.getMaterial() == Material.STONE) {
-                        totalScore += getStoneScore(level);
-                    }
+        for (int index = 0; index < Space.COUNT; index++) {
+            DiceStackView stack = getBuilding().getStackView(Space.at(index));
+            int height = stack.getHeight();
+
+            for (int level = 1; level <= height; level++) {
+                Die die = stack.getDie(level);
+                if (die.getMaterial() == Material.STONE) {
+                    totalScore += scoreForLevel(level);
                 }
             }
         }
@@ -40,7 +35,10 @@ public class StoneScorer extends Scorer {
         return new MaterialScore(Material.STONE, totalScore);
     }
 
-    private int getStoneScore(int level) {
+    /**
+     * Returns the score of a single stone die at the given level.
+     */
+    static int scoreForLevel(int level) {
         if (level == 1)
             return 2;
         if (level == 2)
@@ -49,4 +47,25 @@ public class StoneScorer extends Scorer {
             return 5;
         return 8;
     }
+
+    /**
+     * Returns the stone score of every building in the batch, in batch order.
+     */
+    public static int[] scoreAll(BuildingBatch batch) {
+        int[] scores = new int[batch.size()];
+        int stone = Material.STONE.ordinal();
+        for (int b = 0; b < scores.length; b++) {
+            if (!batch.valid[b]) {
+                continue;
+            }
+            int total = 0;
+            for (int i = batch.start(b), end = batch.end(b); i < end; i++) {
+                if (batch.materials[i] == stone) {
+                    total += scoreForLevel(batch.levels[i]);
+                }
+            }
+            scores[b] = total;
+        }
+        return scores;
+    }
 }
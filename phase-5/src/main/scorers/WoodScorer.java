@@ -15,54 +15,56 @@ public class WoodScorer extends Scorer {
             return new MaterialScore(Material.WOOD, 0);
         }
 
-        int totalScore = 0;
-
-        for (int row = 1; row <= Building.MAX_ROWS; row++) {
-            for (int col = 1; col <= Building.MAX_COLS; col++) {
-                Space space = Space.from(Row.at(row), Col.at(col));
-                DiceStack stack = getBuilding().getStack(space);
-                int height = stack.getHeight();
-
-                for (int level = 1; level <= height; level++) {
-                    Die die = stack.getDie(level);
-                    if (die.getMaterial() != Material.WOOD)
-                        continue;
-
-                    int adjacentWood = 0;
-
-                    // 1. Adjacent spaces (same level)
-                    adjacentWood += countWoodAt(row - 1, col, level); // up
-                    adjacentWood += countWoodAt(row + 1, col, level); // down
-                    adjacentWood += countWoodAt(row, col - 1, level); // left
-                    adjacentWood += countWoodAt(row, col + 1, level); // right
+        return new MaterialScore(Material.WOOD, scoreFor(getBuilding()));
+    }
 
-                    // 2. Above/below in same stack (stacked adjacency)
-                    adjacentWood += countWoodAt(row, col, level - 1); // below
-                    adjacentWood += countWoodAt(row, col, level + 1); // above
+    /**
+     * Returns the wood score of a valid building: 2 points for every die
+     * touching each wood die, whether beside it on the same level or directly
+     * above or below it. The building's occupancy masks make that one bit
+     * count per wood die.
+     */
+    static int scoreFor(Building building) {
+        long all = building.occupancy();
+        int touching = 0;
+        for (long wood = building.occupancy(Material.WOOD); wood != 0; wood &= wood - 1) {
+            touching += Long.bitCount(Lattice.neighbours(Long.numberOfTrailingZeros(wood)) & all);
+        }
+        return 2 * touching;
+    }
 
-                    totalScore += 2 * adjacentWood;
+    /**
+     * Returns the wood score of every building in the batch, in batch order.
+     */
+    public static int[] scoreAll(BuildingBatch batch) {
+        int[] scores = new int[batch.size()];
+        int wood = Material.WOOD.ordinal();
+        for (int b = 0; b < scores.length; b++) {
+            if (!batch.valid[b]) {
+                continue;
+            }
+            int adjacentWood = 0;
+            for (int i = batch.start(b), end = batch.end(b); i < end; i++) {
+                if (batch.materials[i] != wood) {
+                    continue;
+                }
+                int spaceIndex = batch.spaces[i];
+                int level = batch.levels[i];
+                Space space = Space.at(spaceIndex);
+                for (int n = 0, count = space.neighbourCount(); n < count; n++) {
+                    if (batch.stackHeight(b, space.neighbour(n).index()) >= level) {
+                        adjacentWood++;
+                    }
+                }
+                if (level > 1) {
+                    adjacentWood++;
+                }
+                if (level < batch.stackHeight(b, spaceIndex)) {
+                    adjacentWood++;
                 }
             }
+            scores[b] = 2 * adjacentWood;
         }
-
-        return new MaterialScore(Material.WOOD, totalScore);
-    }
-
-    @SuppressWarnings("unused")
-    private int countWoodAt(int row, int col, int level) {
-        if (row < 1 || row > Building.MAX_ROWS || col < 1 || col > Building.MAX_COLS)
-            return 0;
-
-        if (level < 1)
-            return 0;
-
-        Space space = Space.from(Row.at(row), Col.at(col));
-        DiceStack stack = getBuilding().getStack(space);
-
-        if (level > stack.getHeight())
-            return 0;
-
-        Die die = stack.getDie(level);
-        return 1;
+        return scores;
     }
 }
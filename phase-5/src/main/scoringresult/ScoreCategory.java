@@ -0,0 +1,35 @@
+package main.scoringresult;
+
+import main.building.Material;
+
+/**
+ * The rows of a score breakdown: one per material, plus the bonus for
+ * following the blueprint.
+ */
+public enum ScoreCategory {
+    GLASS("glass"),
+    RECYCLED("recycled"),
+    STONE("stone"),
+    WOOD("wood"),
+    BONUS("**bonus**");
+
+    private final String label;
+
+    ScoreCategory(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the category holding the given material's score.
+     */
+    public static ScoreCategory of(Material material) {
+        return valueOf(material.name());
+    }
+
+    /**
+     * Returns the name this category is shown with on a score sheet.
+     */
+    public String label() {
+        return label;
+    }
+}
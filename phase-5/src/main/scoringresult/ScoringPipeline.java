@@ -0,0 +1,138 @@
+package main.scoringresult;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.building.Material;
+import main.exceptions.checked.InvalidPlacementException;
+import main.scorers.ScoreCard;
+import main.scorers.ScoringEngine;
+
+/**
+ * Turns buildings into {@link ScoringResult}s: every material score from a
+ * {@link ScoringEngine}, plus a bonus of one point per die when the building
+ * follows its blueprint exactly. A building with dice on a space the blueprint
+ * prohibits gets {@link ScoringResult#invalidPlacement}, so scoring never
+ * throws.
+ * <p>
+ * Large batches are split up and scored on a ForkJoinPool; small ones aren't
+ * worth the hand-off and are scored on the calling thread. Either way the
+ * results come back in the same order as the buildings, and a pipeline can be
+ * shared between threads.
+ */
+public class ScoringPipeline {
+    /**
+     * Batches smaller than this are scored on the calling thread, and forked
+     * tasks stop splitting once they are this small.
+     */
+    public static final int PARALLEL_THRESHOLD = 1024;
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final ScoringEngine engine;
+    private final ForkJoinPool pool;
+
+    public ScoringPipeline() {
+        this(new ScoringEngine(), ForkJoinPool.commonPool());
+    }
+
+    public ScoringPipeline(ScoringEngine engine, ForkJoinPool pool) {
+        this.engine = engine;
+        this.pool = pool;
+    }
+
+    /**
+     * Scores one building against a blueprint.
+     */
+    public ScoringResult score(Blueprint blueprint, Building building) {
+        try {
+            return new ScoringResult(blueprint, building, breakdownOf(blueprint, building));
+        } catch (InvalidPlacementException e) {
+            return ScoringResult.invalidPlacement(blueprint, building);
+        }
+    }
+
+    /**
+     * Returns the score of every category for a building, without checking
+     * for prohibited spaces.
+     */
+    public EnumMap<ScoreCategory, Integer> breakdownOf(Blueprint blueprint, Building building) {
+        EnumMap<ScoreCategory, Integer> breakdown = new EnumMap<>(ScoreCategory.class);
+        ScoreCard card = engine.score(building);
+        for (Material material : MATERIALS) {
+            breakdown.put(ScoreCategory.of(material), card.get(material));
+        }
+        boolean earnsBonus = building.isValid() && blueprint.isFollowedBy(building);
+        breakdown.put(ScoreCategory.BONUS, earnsBonus ? building.getNumDice() : 0);
+        return breakdown;
+    }
+
+    /**
+     * Scores every building against the same blueprint, in parallel once the
+     * batch reaches {@link #PARALLEL_THRESHOLD}.
+     *
+     * @return one result per building, in the same order
+     */
+    public ScoringResult[] scoreAll(Blueprint blueprint, List<Building> buildings) {
+        if (buildings.size() < PARALLEL_THRESHOLD) {
+            return scoreAllSequential(blueprint, buildings);
+        }
+
+        ScoringResult[] results = new ScoringResult[buildings.size()];
+        pool.invoke(new ScoreRange(blueprint, buildings, results, 0, buildings.size()));
+        return results;
+    }
+
+    /**
+     * Scores every building against the same blueprint on the calling thread.
+     *
+     * @return one result per building, in the same order
+     */
+    public ScoringResult[] scoreAllSequential(Blueprint blueprint, List<Building> buildings) {
+        ScoringResult[] results = new ScoringResult[buildings.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = score(blueprint, buildings.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Scores buildings [from, to), splitting in half until the range is
+     * small enough to score directly.
+     */
+    private class ScoreRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Blueprint blueprint;
+        private final List<Building> buildings;
+        private final ScoringResult[] results;
+        private final int from;
+        private final int to;
+
+        ScoreRange(Blueprint blueprint, List<Building> buildings, ScoringResult[] results, int from, int to) {
+            this.blueprint = blueprint;
+            this.buildings = buildings;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = score(blueprint, buildings.get(i));
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreRange(blueprint, buildings, results, from, middle),
+                    new ScoreRange(blueprint, buildings, results, middle, to));
+        }
+    }
+}
@@ -1,41 +1,120 @@
 package main.scoringresult;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 import main.blueprint.Blueprint;
 import main.building.Building;
-import main.building.DiceStack;
+import main.building.DiceStackView;
 import main.exceptions.checked.InvalidPlacementException;
-import main.space.Col;
-import main.space.Row;
 import main.space.Space;
+import main.violations.RuleViolation;
+import main.violations.ViolationList;
 
 public class ScoringResult {
 
+    private final Blueprint blueprint;
+    private final Building building;
     private final int totalScore;
-    private final Map<String, Integer> scoreBreakdown;
+    private final Map<ScoreCategory, Integer> scoreBreakdown;
+    private final ViolationList violations;
 
-    public ScoringResult(Blueprint blueprint, Building building, int totalScore, Map<String, Integer> breakdown)
+    /**
+     * Creates the result of scoring a building against a blueprint. Any
+     * category missing from the breakdown scores 0, and the total is the sum
+     * of every category.
+     *
+     * @throws InvalidPlacementException if the building has dice on a space
+     *                                   the blueprint prohibits
+     */
+    public ScoringResult(Blueprint blueprint, Building building, Map<ScoreCategory, Integer> breakdown)
             throws InvalidPlacementException {
-        this.totalScore = totalScore;
-        this.scoreBreakdown = breakdown;
-
-        for (int row = 1; row <= Building.MAX_ROWS; row++) {
-            for (int col = 1; col <= Building.MAX_COLS; col++) {
-                Space space = Space.from(Row.at(row), Col.at(col));
-                DiceStack stack = building.getStack(space);
-                if (!stack.isEmpty() && blueprint.isProhibitedSpace(space)) {
-                    throw new InvalidPlacementException("Invalid placement happened at " + space + ".");
-                }
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            DiceStackView stack = building.getStackView(space);
+            if (!stack.isEmpty() && blueprint.isProhibitedSpace(space)) {
+                throw new InvalidPlacementException("Invalid placement happened at " + space + ".");
             }
         }
+
+        this.blueprint = blueprint;
+        this.building = building;
+        this.scoreBreakdown = fill(breakdown);
+        this.totalScore = sum(scoreBreakdown);
+        this.violations = building.getViolations();
+    }
+
+    private ScoringResult(Blueprint blueprint, Building building, ViolationList violations) {
+        this.blueprint = blueprint;
+        this.building = building;
+        this.scoreBreakdown = fill(Collections.emptyMap());
+        this.totalScore = 0;
+        this.violations = violations;
+    }
+
+    /**
+     * Returns the result for a building that has dice on a space the
+     * blueprint prohibits: every category scores 0, and the violations
+     * include {@link RuleViolation#INVALID_PLACEMENT}.
+     */
+    public static ScoringResult invalidPlacement(Blueprint blueprint, Building building) {
+        ViolationList violations = building.getViolations();
+        violations.add(RuleViolation.INVALID_PLACEMENT);
+        return new ScoringResult(blueprint, building, violations);
+    }
+
+    public Blueprint blueprint() {
+        return blueprint;
+    }
+
+    public Building building() {
+        return building;
     }
 
     public int totalScore() {
         return totalScore;
     }
 
-    public Map<String, Integer> breakdown() {
+    public int score(ScoreCategory category) {
+        return scoreBreakdown.get(category);
+    }
+
+    /**
+     * Returns the score of every category, in category order.
+     *
+     * @return an unmodifiable map holding every category
+     */
+    public Map<ScoreCategory, Integer> breakdown() {
         return scoreBreakdown;
     }
+
+    /**
+     * Returns the building's rule violations, plus INVALID_PLACEMENT if it
+     * didn't respect the blueprint's prohibited spaces.
+     */
+    public ViolationList violations() {
+        return new ViolationList(violations);
+    }
+
+    @Override
+    public String toString() {
+        return scoreBreakdown + ", total: " + totalScore;
+    }
+
+    private static Map<ScoreCategory, Integer> fill(Map<ScoreCategory, Integer> breakdown) {
+        EnumMap<ScoreCategory, Integer> scores = new EnumMap<>(ScoreCategory.class);
+        for (ScoreCategory category : ScoreCategory.values()) {
+            scores.put(category, breakdown.getOrDefault(category, 0));
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    private static int sum(Map<ScoreCategory, Integer> breakdown) {
+        int total = 0;
+        for (int score : breakdown.values()) {
+            total += score;
+        }
+        return total;
+    }
 }
@@ -10,6 +10,7 @@ import main.exceptions.runtime.InvalidColException;
 public class Col extends Position {
     private static final int MIN_COL_VAL = 1;
     private static final int MAX_COL_VAL = 2;
+    private static final Col[] COLS = { new Col(1), new Col(2) };
 
     /**
      * We don't allow a Col to be made directly; it must go through
@@ -20,8 +21,9 @@ public class Col extends Position {
     }
 
     /**
-     * Returns a Col at the provided colVal, which should
-     * be in [1, 2].
+     * Returns the Col at the provided colVal, which should
+     * be in [1, 2]. The same Col instance is returned for
+     * every call with the same colVal.
      * 
      * If the provided value is not in the necessary range,
      * then an InvalidColException is thrown.
@@ -35,6 +37,6 @@ public class Col extends Position {
             throw new InvalidColException(String.format("Can't create a Col with value %d.", colVal));
         }
 
-        return new Col(colVal);
+        return COLS[colVal - 1];
     }
 }
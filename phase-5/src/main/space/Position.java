@@ -14,4 +14,14 @@ public abstract class Position {
     public int getVal() {
         return val;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && ((Position) other).val == val;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + val;
+    }
 }
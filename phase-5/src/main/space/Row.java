@@ -10,6 +10,7 @@ import main.exceptions.runtime.InvalidRowException;
 public class Row extends Position {
     private static final int MIN_ROW_VAL = 1;
     private static final int MAX_ROW_VAL = 3;
+    private static final Row[] ROWS = { new Row(1), new Row(2), new Row(3) };
 
     /**
      * We don't allow a Row to be made directly; it must go through
@@ -20,8 +21,9 @@ public class Row extends Position {
     }
 
     /**
-     * Returns a Row at the provided rowVal, which should
-     * be in [1, 3].
+     * Returns the Row at the provided rowVal, which should
+     * be in [1, 3]. The same Row instance is returned for
+     * every call with the same rowVal.
      * 
      * If the provided value is not in the necessary range,
      * then an InvalidRowException is thrown.
@@ -34,6 +36,6 @@ public class Row extends Position {
         if (rowVal < MIN_ROW_VAL || rowVal > MAX_ROW_VAL) {
             throw new InvalidRowException(String.format("Can't create a Row with value %d.", rowVal));
         }
-        return new Row(rowVal);
+        return ROWS[rowVal - 1];
     }
 }
\ No newline at end of file
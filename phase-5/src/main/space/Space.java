@@ -1,42 +1,110 @@
 package main.space;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a space on a Blueprint. Spaces are located at the
  * intersection of a Row and a Col.
- * 
+ *
  * Since attempting to create a Row or Col with an invalid value
  * is impossible, a Space is guaranteed to be valid!
- * 
+ *
+ * There are only 6 valid spaces, so the static creation methods
+ * always hand out the same pre-built instances. Each space has a
+ * dense index in [0, 5] (row-major order) that can be used to
+ * index arrays instead of maps.
  */
 public class Space {
+    public static final int COUNT = 6;
+    private static final int COLS = 2;
+
+    private static final Space[] SPACES = new Space[COUNT];
+    private static final Space[][] NEIGHBOURS = new Space[COUNT][];
+    private static final List<List<Space>> NEIGHBOUR_LISTS = new ArrayList<>(COUNT);
+
+    static {
+        for (int index = 0; index < COUNT; index++) {
+            SPACES[index] = new Space(Row.at(index / COLS + 1), Col.at(index % COLS + 1));
+        }
+        for (Space space : SPACES) {
+            List<Space> neighbours = new ArrayList<>();
+            int r = space.rowVal();
+            int c = space.colVal();
+            if (r > 0) {
+                neighbours.add(SPACES[space.index - COLS]);
+            }
+            if (r < COUNT / COLS - 1) {
+                neighbours.add(SPACES[space.index + COLS]);
+            }
+            if (c > 0) {
+                neighbours.add(SPACES[space.index - 1]);
+            }
+            if (c < COLS - 1) {
+                neighbours.add(SPACES[space.index + 1]);
+            }
+            NEIGHBOURS[space.index] = neighbours.toArray(new Space[0]);
+            NEIGHBOUR_LISTS.add(Collections.unmodifiableList(neighbours));
+        }
+    }
+
+    private static final List<Space> ALL = Collections.unmodifiableList(Arrays.asList(SPACES));
+
     private final Row row;
     private final Col col;
+    private final int index;
 
     public Space(Row row, Col col) {
         this.row = row;
         this.col = col;
+        this.index = row.getVal() * COLS + col.getVal();
     }
 
     /**
      * Returns a Space located at a given Row and Col.
-     * 
+     *
      * @param row the Row this Space is on
      * @param col the Col this Space is on
      * @return a Space located at (row,col)
      */
     public static Space from(Row row, Col col) {
-        return new Space(row, col);
+        return SPACES[row.getVal() * COLS + col.getVal()];
     }
 
     /**
      * Returns a Space located at a given Col and Row.
-     * 
+     *
      * @param col the Col this Space is on
      * @param row the Row this Space is on
      * @return a Space located at (row,col)
      */
     public static Space from(Col col, Row row) {
-        return new Space(row, col);
+        return from(row, col);
+    }
+
+    /**
+     * Returns the Space with the given dense index.
+     *
+     * @param index the index of the Space, in [0, 5]
+     * @return the Space with that index
+     * @throws IndexOutOfBoundsException If index is not in [0, 5].
+     */
+    public static Space at(int index) {
+        if (index < 0 || index >= COUNT) {
+            throw new IndexOutOfBoundsException(String.format("Can't get a Space with index %d.", index));
+        }
+        return SPACES[index];
+    }
+
+    /**
+     * Returns all 6 spaces, in index order.
+     *
+     * @return an unmodifiable list of every Space
+     */
+    public static List<Space> all() {
+        return ALL;
     }
 
     public int rowVal() {
@@ -47,6 +115,55 @@ public class Space {
         return col.getVal();
     }
 
+    /**
+     * Returns the dense, row-major index of this Space.
+     *
+     * @return an index in [0, 5]
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns the spaces that share an edge with this Space.
+     *
+     * @return an unmodifiable list of the orthogonally adjacent spaces
+     */
+    public List<Space> neighbours() {
+        return NEIGHBOUR_LISTS.get(index);
+    }
+
+    /**
+     * Returns how many spaces share an edge with this Space. Together with
+     * {@link #neighbour(int)}, this lets hot loops visit the neighbours by
+     * index without making an iterator.
+     *
+     * @return the number of neighbours, 2 or 3
+     */
+    public int neighbourCount() {
+        return NEIGHBOURS[index].length;
+    }
+
+    /**
+     * Returns one of the spaces that share an edge with this Space, in the
+     * same order as {@link #neighbours()}.
+     *
+     * @param i an index in [0, {@link #neighbourCount()})
+     */
+    public Space neighbour(int i) {
+        return NEIGHBOURS[index][i];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Space && ((Space) other).index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
     @Override
     public String toString() {
         return "(" + rowVal() + ", " + colVal() + ")";
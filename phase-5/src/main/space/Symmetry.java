@@ -0,0 +1,54 @@
+package main.space;
+
+/**
+ * The ways a 3 x 2 grid of spaces can be turned over onto itself.
+ * <p>
+ * None of the scoring rules care which way a building faces, so buildings
+ * that only differ by one of these symmetries always score the same.
+ * Blueprints usually aren't symmetric, though, so check
+ * {@code Blueprint.isSymmetricUnder} before relying on one when a blueprint
+ * is involved.
+ */
+public enum Symmetry {
+    IDENTITY(false, false),
+    MIRROR_COLS(false, true),
+    FLIP_ROWS(true, false),
+    ROTATE_HALF(true, true);
+
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+
+    private final int[] indexMap;
+
+    Symmetry(boolean flipRows, boolean mirrorCols) {
+        indexMap = new int[ROWS * COLS];
+        for (int index = 0; index < indexMap.length; index++) {
+            int row = index / COLS;
+            int col = index % COLS;
+            int newRow = flipRows ? ROWS - 1 - row : row;
+            int newCol = mirrorCols ? COLS - 1 - col : col;
+            indexMap[index] = newRow * COLS + newCol;
+        }
+    }
+
+    /**
+     * Returns the index of the space that the space with the given index is
+     * moved to.
+     *
+     * @param index the index of a space, in [0, 5]
+     * @return the index of the space it ends up at
+     */
+    public int apply(int index) {
+        return indexMap[index];
+    }
+
+    /**
+     * Returns the space that the given space is moved to.
+     *
+     * @param space the space to move
+     * @return the space it ends up at
+     */
+    public Space apply(Space space) {
+        return Space.at(indexMap[space.index()]);
+    }
+}
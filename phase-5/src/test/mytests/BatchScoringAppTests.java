@@ -0,0 +1,108 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.BatchScoringApp;
+import main.batch.BatchReport;
+import main.batch.ScoringJob;
+import main.batch.ScoringJobs;
+import main.exceptions.checked.GameDataSourceException;
+import main.presenters.BufferedScoringResultPresenter;
+
+public class BatchScoringAppTests {
+
+    @TempDir
+    Path dir;
+
+    private final List<String> logged = new ArrayList<>();
+
+    private void writePair(String suffix, String blueprint, String building) throws Exception {
+        Files.writeString(dir.resolve("blueprint" + suffix), blueprint);
+        Files.writeString(dir.resolve("building" + suffix), building);
+    }
+
+    private String runBatch(List<ScoringJob> jobs, int workers, int expectedErrors) {
+        StringWriter out = new StringWriter();
+        BufferedScoringResultPresenter presenter = new BufferedScoringResultPresenter(out);
+
+        BatchReport report = new BatchScoringApp(jobs, presenter, logged::add, workers).run();
+
+        assertEquals(jobs.size(), report.jobs());
+        assertEquals(expectedErrors, report.errors());
+        assertEquals(expectedErrors, logged.size());
+        return out.toString();
+    }
+
+    @Test
+    public void testScoresDirectoryInOrderWhateverTheWorkers() throws Exception {
+        writePair("-01.txt", "1X\n1X\n1X\n", "[row.1]\ncol.1 = \"W5\"\n");
+        writePair("-02.txt", "11\n11\n11\n", "[row.2]\ncol.2 = \"S3 G4\"\n");
+        writePair("-03.txt", "11\n11\n11\n", "[row.3]\ncol.1 = \"G1 G1\"\n");
+        Files.writeString(dir.resolve("notes.txt"), "not a pair");
+
+        List<ScoringJob> jobs = ScoringJobs.load(dir);
+        String sequential = runBatch(jobs, 1, 0);
+
+        assertEquals(3, jobs.size());
+        assertEquals("building-01.txt", jobs.get(0).name());
+        assertTrue(sequential.startsWith("=== building-01.txt ===\n1X\n"));
+        assertTrue(sequential.indexOf("building-02.txt") < sequential.indexOf("building-03.txt"));
+        logged.clear();
+        assertEquals(sequential, runBatch(jobs, 4, 0));
+    }
+
+    @Test
+    public void testCountsPairsThatCantBeRead() throws Exception {
+        writePair(".txt", "11\n11\n11\n", "[row.1]\ncol.1 = \"W5\"\n");
+        Files.writeString(dir.resolve("building-orphan.txt"), "[row.1]\ncol.1 = \"W5\"\n");
+        Path manifest = dir.resolve("manifest.txt");
+        Files.writeString(manifest, "# pairs\nblueprint.txt, building.txt\n\nblueprint.txt,missing.txt\n");
+
+        assertEquals(2, ScoringJobs.load(dir).size());
+        String output = runBatch(ScoringJobs.load(manifest), 2, 1);
+
+        assertTrue(output.startsWith("=== blueprint.txt, building.txt ===\n"));
+        assertTrue(logged.get(0).contains("missing.txt"));
+    }
+
+    @Test
+    public void testCountsUnpresentedPairsWhenInterrupted() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            writePair(String.format("-%02d.txt", i), "11\n11\n11\n", "[row.1]\ncol.1 = \"W5\"\n");
+        }
+        StringWriter out = new StringWriter();
+
+        // Pairs already scored when the interrupt is seen are still presented.
+        Thread.currentThread().interrupt();
+        BatchReport report;
+        try {
+            report = new BatchScoringApp(ScoringJobs.load(dir), new BufferedScoringResultPresenter(out),
+                    logged::add, 2).run();
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        int presented = out.toString().split("=== ", -1).length - 1;
+        assertEquals(presented, report.scored());
+        assertEquals(50 - presented, report.errors());
+    }
+
+    @Test
+    public void testRejectsMalformedManifest() throws Exception {
+        Path manifest = dir.resolve("manifest.txt");
+        Files.writeString(manifest, "blueprint.txt\n");
+
+        assertThrows(GameDataSourceException.class, () -> ScoringJobs.load(manifest));
+    }
+}
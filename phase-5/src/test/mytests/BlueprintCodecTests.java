@@ -0,0 +1,55 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.blueprint.Blueprint;
+import main.blueprint.BlueprintCodec;
+import main.blueprint.BlueprintFileReader;
+
+public class BlueprintCodecTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoundTripsBlueprintFromTextFile() throws Exception {
+        Path file = dir.resolve("blueprint.txt");
+        Files.writeString(file, "1X\r\n23\r\n3X\r\n");
+        Blueprint blueprint = BlueprintFileReader.load(file.toString());
+
+        byte[] encoded = BlueprintCodec.encode(blueprint);
+
+        assertEquals(BlueprintCodec.ENCODED_BYTES, encoded.length);
+        assertEquals(blueprint.toString(), BlueprintCodec.decode(encoded).toString());
+    }
+
+    @Test
+    public void testRoundTripsEveryCell() {
+        String cells = "123X";
+        for (int i = 0; i < 4096; i++) {
+            StringBuilder template = new StringBuilder();
+            for (int space = 0, rest = i; space < 6; space++, rest /= 4) {
+                template.append(cells.charAt(rest % 4));
+            }
+            Blueprint blueprint = new Blueprint(template.toString());
+
+            assertEquals(blueprint.toString(), BlueprintCodec.decode(BlueprintCodec.encode(blueprint)).toString());
+        }
+    }
+
+    @Test
+    public void testRejectsMalformedBytes() {
+        assertThrows(IllegalArgumentException.class, () -> BlueprintCodec.decode(new byte[] { 2, 1, 1, 1 }));
+        assertThrows(IllegalArgumentException.class, () -> BlueprintCodec.decode(new byte[] { 1, 0, 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BlueprintCodec.decode(new byte[] { 1, 1 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> BlueprintCodec.decode(new byte[] { 1, (byte) 0b01001001, (byte) 0b10010010, 0b01000100 }));
+    }
+}
@@ -0,0 +1,89 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.BuildingCodec;
+import main.building.BuildingFileReader;
+import main.building.Die;
+import main.exceptions.checked.InvalidBuildingException;
+import main.space.Space;
+
+public class BuildingCodecTests {
+
+    private static void assertSameBuilding(Building expected, Building actual) {
+        TestBuildings.assertSameDice(expected, actual);
+        assertEquals(expected.getViolations().toString(), actual.getViolations().toString());
+    }
+
+    @Test
+    public void testRoundTripsBuildingFromTextFile() throws Exception {
+        String text = "[row.1]\ncol.1 = \"W5\"\ncol.2 = \"S1 S5\"\n\n[row.3]\ncol.2 = \"G2 R6\"\n";
+        Building building = BuildingFileReader.parse(
+                ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), msg -> { });
+
+        byte[] encoded = BuildingCodec.encode(building);
+
+        assertEquals(4 + 5, encoded.length);
+        assertEquals(BuildingCodec.encodedSize(building), encoded.length);
+        assertSameBuilding(building, BuildingCodec.decode(encoded));
+    }
+
+    @Test
+    public void testRoundTripsRandomBuildings() {
+        Random random = new Random(2301);
+        for (int i = 0; i < 2000; i++) {
+            Building building = TestBuildings.randomValid(random, 10);
+            assertSameBuilding(building, BuildingCodec.decode(BuildingCodec.encode(building)));
+        }
+    }
+
+    @Test
+    public void testKeepsViolations() throws Exception {
+        Building building = new Building();
+        building.add(Die.fromCode(17), Space.at(0));
+        for (int i = 0; i < 6; i++) {
+            assertThrows(InvalidBuildingException.class, () -> building.add(Die.fromCode(12), Space.at(0)));
+        }
+
+        Building decoded = BuildingCodec.decode(BuildingCodec.encode(building));
+
+        assertFalse(decoded.isValid());
+        assertSameBuilding(building, decoded);
+    }
+
+    @Test
+    public void testReadsBuildingsOneAfterAnother() {
+        Building first = new Building();
+        first.tryAdd(Die.fromCode(3), Space.at(2));
+        Building second = new Building();
+
+        ByteBuffer buffer = ByteBuffer.allocate(BuildingCodec.encodedSize(first) + BuildingCodec.encodedSize(second));
+        BuildingCodec.encode(first, buffer);
+        BuildingCodec.encode(second, buffer);
+        buffer.flip();
+
+        assertSameBuilding(first, BuildingCodec.decode(buffer));
+        assertSameBuilding(second, BuildingCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testRejectsMalformedBytes() {
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 2, 0, 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 1, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 1, 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 1, 0, 0, 24 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 0, 0, 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 0x08, 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> BuildingCodec.decode(new byte[] { 1, 0, 0, (byte) 0x80 }));
+    }
+}
@@ -0,0 +1,69 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static test.mytests.TestBuildings.at;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.BuildingFileReader;
+import main.exceptions.checked.InvalidBuildingException;
+import main.exceptions.runtime.InvalidDieMaterialException;
+
+public class BuildingFileReaderTests {
+
+    private final List<String> logged = new ArrayList<>();
+
+    private Building parse(String text) throws InvalidBuildingException {
+        return BuildingFileReader.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), logged::add);
+    }
+
+    @Test
+    public void testParsesRowsAndColumns() throws Exception {
+        Building building = parse("[row.1]\r\ncol.1 = \"W5\"\r\ncol.2 = \"S1 S5\"\r\n\r\n[row.3]\r\ncol.2 = \"G2\"\r\n");
+
+        assertEquals("[W5]", building.getStack(at(1, 1)).toString());
+        assertEquals("[S1 S5]", building.getStack(at(1, 2)).toString());
+        assertEquals("[G2]", building.getStack(at(3, 2)).toString());
+        assertEquals(4, building.getNumDice());
+        assertEquals(0, logged.size());
+    }
+
+    @Test
+    public void testSkipsMalformedLines() throws Exception {
+        Building building = parse("col.1 = \"R1\"\n[row.2]\ncol=\"W1\"\ncol.3 = \"W1\"\n# note\ncol.1 = \"R2\"\n");
+
+        assertEquals(1, building.getNumDice());
+        assertEquals("[R2]", building.getStack(at(2, 1)).toString());
+    }
+
+    @Test
+    public void testLogsRejectedDiceBeforeThrowing() {
+        assertThrows(InvalidBuildingException.class, () -> parse("[row.1]\ncol.1 = \"S4  S2\"\n"));
+
+        assertEquals(List.of("Error when adding S2 at [1,1] to level 3. Building has these violations: "
+                + "[DESCENDING_DICE]."), logged);
+    }
+
+    @Test
+    public void testRejectsEmptyDataAndBadDice() {
+        assertThrows(InvalidBuildingException.class, () -> parse(" \n\t\n"));
+        assertThrows(InvalidDieMaterialException.class, () -> parse("[row.1]\ncol.1 = \"X1\"\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("[row.1]\ncol.1 = \"W12\"\n"));
+    }
+
+    @Test
+    public void testLoadsFromStream() throws Exception {
+        byte[] bytes = "[row.2]\ncol.2 = \"G1 G3\"\n".getBytes(StandardCharsets.US_ASCII);
+        Building building = BuildingFileReader.load(new ByteArrayInputStream(bytes), logged::add);
+
+        assertEquals("[G1 G3]", building.getStack(at(2, 2)).toString());
+    }
+}
@@ -0,0 +1,230 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static test.mytests.TestBuildings.at;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.building.DiceStackView;
+import main.building.Die;
+import main.building.DieList;
+import main.building.Lattice;
+import main.building.Material;
+import main.scorers.GlassScorer;
+import main.scorers.Scorer;
+import main.space.Symmetry;
+
+public class BuildingTests {
+
+    private Building building;
+
+    @BeforeEach
+    public void setUp() {
+        building = new Building();
+    }
+
+    @Test
+    public void testTryAddAddsValidDie() {
+        assertTrue(building.canAdd(Die.parse("S2"), at(1, 1)));
+        assertTrue(building.tryAdd(Die.parse("S2"), at(1, 1)));
+        assertTrue(building.tryAdd(Die.parse("G2"), at(1, 1)));
+
+        assertEquals(2, building.getNumDice());
+        assertEquals(2, building.getHeight());
+        assertTrue(building.isValid());
+    }
+
+    @Test
+    public void testTryAddLeavesBuildingUnchangedOnDescendingDie() {
+        building.tryAdd(Die.parse("S4"), at(2, 2));
+
+        assertFalse(building.canAdd(Die.parse("W3"), at(2, 2)));
+        assertFalse(building.tryAdd(Die.parse("W3"), at(2, 2)));
+        assertEquals("[DESCENDING_DICE]", building.violationsIfAdded(Die.parse("W3"), at(2, 2)).toString());
+
+        assertEquals(1, building.getNumDice());
+        assertTrue(building.isValid());
+        assertEquals("NONE", building.getViolations().toString());
+    }
+
+    @Test
+    public void testTryAddRejectsSeventhDie() {
+        for (int i = 0; i < 6; i++) {
+            assertTrue(building.tryAdd(Die.parse("R1"), at(i / 2 + 1, i % 2 + 1)));
+        }
+
+        assertFalse(building.tryAdd(Die.parse("R6"), at(1, 1)));
+        assertEquals("[BUILDING_OVERLARGE]", building.violationsIfAdded(Die.parse("R6"), at(1, 1)).toString());
+        assertEquals(6, building.getNumDice());
+        assertTrue(building.isValid());
+    }
+
+    @Test
+    public void testStackViewReflectsLaterAdds() {
+        DiceStackView view = building.getStackView(at(3, 1));
+        assertTrue(view.isEmpty());
+
+        building.tryAdd(Die.parse("G1"), at(3, 1));
+        DiceStackView liveView = building.getStackView(at(3, 1));
+        building.tryAdd(Die.parse("W5"), at(3, 1));
+
+        assertSame(view, liveView);
+        assertEquals(2, view.getHeight());
+        assertEquals(2, liveView.getHeight());
+        assertEquals("[G1 W5]", liveView.toString());
+        assertEquals(at(3, 1), liveView.getSpace());
+    }
+
+    @Test
+    public void testForEachDieVisitsEveryDieInOrder() {
+        building.tryAdd(Die.parse("S1"), at(2, 2));
+        building.tryAdd(Die.parse("R3"), at(1, 1));
+        building.tryAdd(Die.parse("G4"), at(2, 2));
+
+        StringBuilder visited = new StringBuilder();
+        building.forEachDie((space, level, die) -> visited.append(space).append(level).append(die).append(' '));
+
+        assertEquals("(0, 0)1R3 (1, 1)1S1 (1, 1)2G4 ", visited.toString());
+    }
+
+    @Test
+    public void testMaterialCountersTrackAddedDice() throws Exception {
+        building.add(Die.parse("G2"), at(1, 1));
+        building.add(Die.parse("G5"), at(1, 1));
+        building.add(Die.parse("G3"), at(3, 2));
+        building.add(Die.parse("S6"), at(2, 1));
+
+        assertEquals(3, building.count(Material.GLASS));
+        assertEquals(10, building.faceSum(Material.GLASS));
+        assertEquals(2, building.countOnLevel(Material.GLASS, 1));
+        assertEquals(1, building.countOnLevel(Material.GLASS, 2));
+        assertEquals(0, building.count(Material.WOOD));
+
+        Building copy = new Building(building);
+        copy.add(Die.parse("G6"), at(2, 1));
+        assertEquals(3, building.count(Material.GLASS));
+        assertEquals(4, copy.count(Material.GLASS));
+    }
+
+    @Test
+    public void testPopUndoesPushExactly() {
+        building.push(Die.parse("W3"), at(1, 2));
+        building.push(Die.parse("W4"), at(1, 2));
+
+        assertFalse(building.push(Die.parse("G1"), at(1, 2)));
+        assertEquals("[DESCENDING_DICE]", building.getViolations().toString());
+
+        assertEquals("G1", building.pop().toString());
+        assertTrue(building.isValid());
+        assertEquals("NONE", building.getViolations().toString());
+        assertEquals(2, building.getNumDice());
+        assertEquals(2, building.getHeight());
+        assertEquals("[W3 W4]", building.getStack(at(1, 2)).toString());
+
+        building.pop();
+        building.pop();
+        assertTrue(building.isEmpty());
+        assertEquals(0, building.getHeight());
+        assertEquals(0, building.count(Material.WOOD));
+    }
+
+    @Test
+    public void testPopRestoresOverlargeBuilding() {
+        for (int i = 0; i < 7; i++) {
+            building.push(Die.parse("R1"), at(i % 3 + 1, 1));
+        }
+        assertEquals("[BUILDING_OVERLARGE]", building.getViolations().toString());
+
+        building.pop();
+        assertTrue(building.isValid());
+        assertEquals(6, building.getNumDice());
+    }
+
+    @Test
+    public void testZobristHashIgnoresPlacementOrder() {
+        Building other = new Building();
+        building.push(Die.parse("S1"), at(1, 1));
+        building.push(Die.parse("G2"), at(3, 2));
+        other.push(Die.parse("G2"), at(3, 2));
+        other.push(Die.parse("S1"), at(1, 1));
+
+        assertEquals(building.zobristHash(), other.zobristHash());
+
+        long before = building.zobristHash();
+        building.push(Die.parse("W4"), at(1, 1));
+        assertNotEquals(before, building.zobristHash());
+        building.pop();
+        assertEquals(before, building.zobristHash());
+    }
+
+    @Test
+    public void testMirroredBuildingsShareCanonicalHash() {
+        Building mirrored = new Building();
+        building.push(Die.parse("S1"), at(1, 1));
+        building.push(Die.parse("W3"), at(2, 1));
+        mirrored.push(Die.parse("S1"), at(1, 2));
+        mirrored.push(Die.parse("W3"), at(2, 2));
+
+        assertNotEquals(building.zobristHash(), mirrored.zobristHash());
+        assertEquals(building.canonicalHash(), mirrored.canonicalHash());
+        assertEquals(building.hashUnder(Symmetry.MIRROR_COLS), mirrored.zobristHash());
+        assertEquals(building.canonicalForm().zobristHash(), mirrored.canonicalForm().zobristHash());
+
+        assertEquals(new Blueprint("11 22 33").canonicalHashOf(building),
+                new Blueprint("11 22 33").canonicalHashOf(mirrored));
+        assertNotEquals(new Blueprint("1X 21 33").canonicalHashOf(building),
+                new Blueprint("1X 21 33").canonicalHashOf(mirrored));
+    }
+
+    @Test
+    public void testOccupancyTracksCells() {
+        building.push(Die.parse("W1"), at(1, 1));
+        building.push(Die.parse("G2"), at(1, 1));
+
+        assertEquals(Lattice.bit(at(1, 1), 1), building.occupancy(Material.WOOD));
+        assertEquals(Lattice.bit(at(1, 1), 1) | Lattice.bit(at(1, 1), 2), building.occupancy());
+
+        building.pop();
+        assertEquals(0L, building.occupancy(Material.GLASS));
+    }
+
+    @Test
+    public void testCollectVariantsMatchListQueries() {
+        building.push(Die.parse("W1"), at(1, 1));
+        building.push(Die.parse("G2"), at(1, 1));
+        building.push(Die.parse("G4"), at(2, 1));
+        building.push(Die.parse("S5"), at(3, 2));
+        DieList scratch = new DieList();
+
+        for (Material material : Material.values()) {
+            assertEquals(building.all(material), building.collectAll(material, scratch).toArrayList());
+            assertEquals(building.allAdjacentTo(material),
+                    building.collectAdjacentTo(material, scratch).toArrayList());
+        }
+        assertEquals("[G2]", building.collectOnLevel(Material.GLASS, 2, scratch).toString());
+        assertEquals(building.allOnLevel(Material.GLASS, 2), scratch.toArrayList());
+        assertEquals("[G4]", building.collectOnLevel(Material.GLASS, 1, scratch).toString());
+    }
+
+    @Test
+    public void testDiceOnLevelMatchesAllOnLevel() {
+        Random random = new Random(2002);
+        DieList scratch = new DieList();
+        for (int i = 0; i < 2000; i++) {
+            Building randomBuilding = TestBuildings.random(random, 12);
+            Scorer scorer = new GlassScorer(randomBuilding);
+            for (int level = 1; level <= randomBuilding.getHeight(); level++) {
+                assertEquals(scorer.allOnLevel(level), scorer.diceOnLevel(level, scratch).toArrayList());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Material;
+import main.scorers.CachingScorer;
+import main.scorers.CachingScoringEngine;
+import main.scorers.MaterialScore;
+import main.scorers.ScoreCache;
+import main.scorers.ScoreCard;
+import main.scorers.ScoringEngine;
+import main.scorers.StoneScorer;
+import main.space.Space;
+
+public class CachingScorerTests {
+
+    private static Building buildingWith(String... dice) {
+        Building building = new Building();
+        for (int i = 0; i < dice.length; i++) {
+            building.push(Die.parse(dice[i]), Space.at(i));
+        }
+        return building;
+    }
+
+    @Test
+    public void testCachedScoreMatchesWrappedScorer() {
+        ScoreCache<MaterialScore> cache = new ScoreCache<>(100, ScoreCache.Policy.LRU);
+        Building building = buildingWith("S1", "S2", "W3");
+
+        MaterialScore first = new CachingScorer(new StoneScorer(building), cache).score();
+        MaterialScore second = new CachingScorer(new StoneScorer(buildingWith("S1", "S2", "W3")), cache).score();
+
+        assertEquals(new StoneScorer(building).score().getScore(), first.getScore());
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testLruCacheEvictsLeastRecentlyUsed() {
+        ScoreCache<String> cache = new ScoreCache<>(2, ScoreCache.Policy.LRU);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+        cache.put(3L, "three");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    public void testFifoCacheEvictsOldest() {
+        ScoreCache<String> cache = new ScoreCache<>(1, ScoreCache.Policy.FIFO);
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.put(2L, "two");
+
+        assertNull(cache.get(1L));
+        assertEquals("two", cache.get(2L));
+    }
+
+    @Test
+    public void testCachingEngineMatchesEngine() {
+        CachingScoringEngine engine = new CachingScoringEngine(new ScoreCache<>(10, ScoreCache.Policy.LRU));
+        Building building = buildingWith("W1", "W2", "G3", "R4", "S5");
+
+        ScoreCard expected = new ScoringEngine().score(building);
+        engine.score(building);
+        ScoreCard cached = engine.score(building);
+
+        for (Material material : Material.values()) {
+            assertEquals(expected.get(material), cached.get(material));
+        }
+        assertEquals(1, engine.getCache().hits());
+    }
+}
@@ -0,0 +1,86 @@
+package test.mytests;
+
+import java.util.Random;
+
+import main.building.Building;
+import main.scorers.BuildingBatch;
+import main.scorers.ColumnarBuildingBatch;
+import main.scorers.ColumnarScorers;
+import main.scorers.CustomScorer;
+import main.scorers.GlassScorer;
+import main.scorers.RecycledScorer;
+import main.scorers.StoneScorer;
+
+/**
+ * Compares the throughput of the {@link ColumnarScorers} kernels with the
+ * {@code scoreAll} methods of the scalar scorers on a {@link BuildingBatch},
+ * scoring the glass, recycled, stone and custom rules for a batch of random
+ * valid buildings.
+ * <p>
+ * The first argument is the batch size (default 1,000,000), the second the
+ * number of timed rounds (default 5). Each path is warmed up before it is
+ * timed. Only scoring is timed; both batches are filled beforehand.
+ */
+public class ColumnarScoringBenchmark {
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private ColumnarScoringBenchmark() {
+        throw new UnsupportedOperationException("ColumnarScoringBenchmark cannot be instantiated.");
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Random random = new Random(13);
+        BuildingBatch batch = new BuildingBatch();
+        ColumnarBuildingBatch columnar = new ColumnarBuildingBatch();
+        for (int i = 0; i < size; i++) {
+            Building building = TestBuildings.randomValid(random, 10);
+            batch.add(building);
+            columnar.add(building);
+        }
+
+        long checksum = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            checksum += scoreBatch(batch) + scoreColumnar(columnar);
+        }
+
+        long scalar = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            checksum += scoreBatch(batch);
+            scalar = Math.min(scalar, System.nanoTime() - start);
+        }
+
+        long vector = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            checksum += scoreColumnar(columnar);
+            vector = Math.min(vector, System.nanoTime() - start);
+        }
+
+        System.out.printf("%d buildings, best of %d rounds (checksum %d)%n", size, rounds, checksum);
+        System.out.printf("BuildingBatch: %,14.0f buildings/s%n", size * 1e9 / scalar);
+        System.out.printf("columnar:      %,14.0f buildings/s (%.2fx)%n", size * 1e9 / vector,
+                (double) scalar / vector);
+    }
+
+    private static long scoreBatch(BuildingBatch batch) {
+        return sum(GlassScorer.scoreAll(batch)) + sum(RecycledScorer.scoreAll(batch))
+                + sum(StoneScorer.scoreAll(batch)) + sum(CustomScorer.scoreAll(batch));
+    }
+
+    private static long scoreColumnar(ColumnarBuildingBatch batch) {
+        return sum(ColumnarScorers.glassScores(batch)) + sum(ColumnarScorers.recycledScores(batch))
+                + sum(ColumnarScorers.stoneScores(batch)) + sum(ColumnarScorers.customScores(batch));
+    }
+
+    private static long sum(int[] scores) {
+        long total = 0;
+        for (int score : scores) {
+            total += score;
+        }
+        return total;
+    }
+}
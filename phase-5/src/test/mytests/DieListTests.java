@@ -0,0 +1,59 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Die;
+import main.building.DieList;
+import main.building.Material;
+
+public class DieListTests {
+
+    @Test
+    public void testAddGrowsAndReadsBack() {
+        DieList list = new DieList(1);
+        for (int code = 0; code < Die.CODES; code++) {
+            list.addCode(code);
+        }
+
+        assertEquals(Die.CODES, list.size());
+        assertSame(Die.of(Material.GLASS, 6), list.get(Die.CODES - 1));
+        assertEquals(Material.WOOD, list.materialAt(0));
+        assertEquals(4 * 21, list.faceSum());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(Die.CODES));
+    }
+
+    @Test
+    public void testStreamsAndIteratorSeeListOrder() {
+        DieList list = new DieList();
+        list.add(Die.parse("G3"));
+        list.add(Die.parse("W1"));
+        list.add(Die.parse("S6"));
+
+        assertArrayEquals(new int[] {3, 1, 6}, list.faces().toArray());
+        assertEquals(Die.parse("W1").code(), list.codes().toArray()[1]);
+
+        PrimitiveIterator.OfInt codes = list.codeIterator();
+        assertEquals(Die.parse("G3").code(), codes.nextInt());
+        assertEquals("[G3 W1 S6]", list.toString());
+        assertEquals(Die.parse("S6"), list.toArrayList().get(2));
+    }
+
+    @Test
+    public void testClearKeepsListReusable() {
+        DieList list = new DieList();
+        list.add(Die.parse("R2"));
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        list.add(Die.parse("R4"));
+        assertEquals("[R4]", list.toString());
+    }
+}
@@ -0,0 +1,38 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Die;
+import main.building.Material;
+import main.exceptions.runtime.InvalidDieFaceException;
+import main.exceptions.runtime.InvalidDieMaterialException;
+
+public class DieTests {
+
+    @Test
+    public void testOfReturnsCanonicalInstance() {
+        Die die = Die.of(Material.STONE, 4);
+
+        assertSame(die, Die.of(Material.STONE, 4));
+        assertEquals(Material.STONE, die.getMaterial());
+        assertEquals(4, die.getFace());
+    }
+
+    @Test
+    public void testParseAtOffsetMatchesOf() {
+        assertSame(Die.of(Material.WOOD, 3), Die.parse("G1 W3 R6", 3));
+        assertSame(Die.of(Material.RECYCLED, 6), Die.parse("R6"));
+    }
+
+    @Test
+    public void testParseRejectsInvalidDice() {
+        assertThrows(InvalidDieMaterialException.class, () -> Die.parse("X1"));
+        assertThrows(InvalidDieFaceException.class, () -> Die.parse("W7"));
+        assertThrows(IllegalArgumentException.class, () -> Die.parse("W12"));
+        assertThrows(IllegalArgumentException.class, () -> Die.parse("W1", 1));
+    }
+}
@@ -0,0 +1,130 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.archive.GameArchive;
+import main.archive.GameArchiveWriter;
+import main.archive.RecordKind;
+import main.blueprint.Blueprint;
+import main.blueprint.BlueprintFileReader;
+import main.building.Building;
+
+public class GameArchiveTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testBuildingsAndBlueprintsRoundTrip() throws Exception {
+        Path path = dir.resolve("games.bpa");
+        Random random = new Random(2202);
+        List<Building> buildings = new ArrayList<>();
+        try (GameArchiveWriter writer = GameArchiveWriter.create(path)) {
+            for (int i = 0; i < 500; i++) {
+                Building building = TestBuildings.randomValid(random, 10);
+                buildings.add(building);
+                assertEquals(2 * i, writer.addBuilding(building));
+                writer.addBlueprint(new Blueprint("1X 23 31"));
+            }
+        }
+
+        GameArchive archive = GameArchive.open(path);
+        assertEquals(1000, archive.size());
+        for (int i = 0; i < buildings.size(); i++) {
+            assertEquals(RecordKind.BUILDING_TEXT, archive.kind(2 * i));
+            TestBuildings.assertSameDice(buildings.get(i), archive.building(2 * i, msg -> { }));
+            assertEquals("1X\n23\n31", archive.blueprint(2 * i + 1).toString());
+        }
+    }
+
+    @Test
+    public void testStoresBuildingFilesUnchanged() throws Exception {
+        String text = "[row.1]\r\ncol.1 = \"W5\"\r\n\r\n[row.3]\r\ncol.2 = \"S1 S3\"\r\n";
+        Path buildingFile = dir.resolve("building.txt");
+        Files.write(buildingFile, text.getBytes(StandardCharsets.US_ASCII));
+        Path path = dir.resolve("games.bpa");
+        try (GameArchiveWriter writer = GameArchiveWriter.create(path)) {
+            writer.addBuildingFile(buildingFile);
+        }
+
+        GameArchive archive = GameArchive.open(path);
+        List<String> records = new ArrayList<>();
+        archive.forEach((index, kind, data) -> records.add(StandardCharsets.US_ASCII.decode(data).toString()));
+
+        assertEquals(List.of(text), records);
+        assertEquals(3, archive.building(0, msg -> { }).getNumDice());
+        assertThrows(IllegalArgumentException.class, () -> archive.blueprint(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.kind(1));
+    }
+
+    @Test
+    public void testRejectsBlueprintFilesTheReaderWouldReject() throws Exception {
+        Path blueprintFile = dir.resolve("blueprint.txt");
+        Files.write(blueprintFile, "111\n22\n33\n".getBytes(StandardCharsets.US_ASCII));
+        Path path = dir.resolve("games.bpa");
+        try (GameArchiveWriter writer = GameArchiveWriter.create(path)) {
+            writer.addBlueprintFile(blueprintFile);
+        }
+
+        GameArchive archive = GameArchive.open(path);
+        assertThrows(Exception.class, () -> BlueprintFileReader.load(blueprintFile.toString()));
+        assertThrows(IllegalArgumentException.class, () -> archive.blueprint(0));
+    }
+
+    @Test
+    public void testBinaryRecordsRoundTrip() throws Exception {
+        Path path = dir.resolve("games.bpa");
+        Random random = new Random(2303);
+        List<Building> buildings = new ArrayList<>();
+        try (GameArchiveWriter writer = GameArchiveWriter.create(path)) {
+            writer.addBlueprintBinary(new Blueprint("1X 23 31"));
+            for (int i = 0; i < 200; i++) {
+                Building building = TestBuildings.randomValid(random, 10);
+                buildings.add(building);
+                writer.addBuildingBinary(building);
+            }
+        }
+
+        GameArchive archive = GameArchive.open(path);
+        assertEquals(RecordKind.BLUEPRINT_BINARY, archive.kind(0));
+        assertEquals("1X\n23\n31", archive.blueprint(0).toString());
+        for (int i = 0; i < buildings.size(); i++) {
+            assertEquals(RecordKind.BUILDING_BINARY, archive.kind(i + 1));
+            TestBuildings.assertSameDice(buildings.get(i), archive.building(i + 1, msg -> { }));
+        }
+        assertThrows(IllegalArgumentException.class, () -> archive.building(0, msg -> { }));
+    }
+
+    @Test
+    public void testCloseIsIdempotentAndAddAfterCloseFails() throws Exception {
+        Path path = dir.resolve("games.bpa");
+        GameArchiveWriter writer = GameArchiveWriter.create(path);
+        try (writer) {
+            writer.addBlueprint(new Blueprint("11 22 33"));
+        }
+        writer.close();
+
+        assertThrows(IllegalStateException.class, () -> writer.addBlueprint(new Blueprint("11 22 33")));
+        assertEquals(1, GameArchive.open(path).size());
+    }
+
+    @Test
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Path path = dir.resolve("notes.txt");
+        Files.write(path, "definitely not an archive".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(IOException.class, () -> GameArchive.open(path));
+    }
+}
@@ -0,0 +1,105 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static test.mytests.TestBuildings.at;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Material;
+import main.building.PackedBuilding;
+import main.exceptions.runtime.InvalidLevelException;
+
+public class PackedBuildingTests {
+
+    private static Building sampleBuilding() throws Exception {
+        Building building = new Building();
+        building.add(new Die("R2"), at(2, 1));
+        building.add(new Die("G4"), at(2, 1));
+        building.add(new Die("W5"), at(2, 1));
+        building.add(new Die("G1"), at(2, 2));
+        building.add(new Die("W4"), at(2, 2));
+        building.add(new Die("S6"), at(3, 2));
+        return building;
+    }
+
+    @Test
+    public void testEmptyBuildingPacksToZero() {
+        PackedBuilding packed = PackedBuilding.from(new Building());
+
+        assertTrue(packed.isEmpty());
+        assertEquals(0L, packed.bits());
+        assertEquals(0, packed.getHeight());
+        assertEquals(PackedBuilding.empty(), packed);
+    }
+
+    @Test
+    public void testReadsMirrorBuilding() throws Exception {
+        Building building = sampleBuilding();
+        PackedBuilding packed = PackedBuilding.from(building);
+
+        assertEquals(building.getNumDice(), packed.getNumDice());
+        assertEquals(building.getHeight(), packed.getHeight());
+        assertTrue(packed.isValid());
+        for (Material material : Material.values()) {
+            assertEquals(building.all(material).size(), packed.all(material).size());
+            assertEquals(building.all(material).size(), packed.count(material));
+        }
+        assertEquals("W5", packed.getDie(at(2, 1), 3).toString());
+        assertEquals("S6", packed.getDie(at(3, 2), 1).toString());
+        assertEquals(building.getStack(at(2, 2)).toString(), packed.getStack(at(2, 2)).toString());
+        assertThrows(InvalidLevelException.class, () -> packed.getDie(at(1, 1), 1));
+    }
+
+    @Test
+    public void testRoundTripThroughBuildingAndBits() throws Exception {
+        Building building = sampleBuilding();
+        PackedBuilding packed = PackedBuilding.from(building);
+
+        Building unpacked = packed.toBuilding();
+        for (int row = 1; row <= Building.MAX_ROWS; row++) {
+            for (int col = 1; col <= Building.MAX_COLS; col++) {
+                assertEquals(building.getStack(at(row, col)).toString(), unpacked.getStack(at(row, col)).toString());
+            }
+        }
+        assertEquals(packed, PackedBuilding.fromBits(packed.bits()));
+    }
+
+    @Test
+    public void testFromBitsRejectsNonCanonicalBits() throws Exception {
+        long bits = PackedBuilding.from(sampleBuilding()).bits();
+        int numDice = sampleBuilding().getNumDice();
+
+        assertThrows(IllegalArgumentException.class, () -> PackedBuilding.fromBits(bits | 1L << 30));
+        assertThrows(IllegalArgumentException.class, () -> PackedBuilding.fromBits(bits | 1L << 31));
+        assertThrows(IllegalArgumentException.class, () -> PackedBuilding.fromBits(bits | 1L << (5 * numDice)));
+        assertEquals(PackedBuilding.empty(), PackedBuilding.fromBits(0L));
+    }
+
+    @Test
+    public void testDescendingDiceAreInvalid() {
+        Building building = new Building();
+        assertThrows(Exception.class, () -> {
+            building.add(new Die("G4"), at(1, 1));
+            building.add(new Die("G2"), at(1, 1));
+        });
+
+        assertFalse(PackedBuilding.from(building).isValid());
+    }
+
+    @Test
+    public void testRejectsBuildingWithTooManyDice() {
+        Building building = new Building();
+        assertThrows(Exception.class, () -> {
+            for (int i = 0; i < 7; i++) {
+                building.add(new Die("S1"), at(i % 3 + 1, 1));
+            }
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> PackedBuilding.from(building));
+    }
+}
@@ -0,0 +1,62 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static test.mytests.TestBuildings.at;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.PersistentBuilding;
+
+public class PersistentBuildingTests {
+
+    @Test
+    public void testWithLeavesParentUnchanged() {
+        PersistentBuilding parent = PersistentBuilding.empty().with(Die.parse("S2"), at(1, 1));
+        PersistentBuilding child = parent.with(Die.parse("G4"), at(1, 1));
+
+        assertEquals(1, parent.getNumDice());
+        assertEquals(1, parent.getHeight());
+        assertEquals(2, child.getNumDice());
+        assertEquals(2, child.getHeight());
+        assertEquals("[S2 G4]", child.getStackView(at(1, 1)).toString());
+    }
+
+    @Test
+    public void testWithSharesUntouchedStacks() {
+        PersistentBuilding parent = PersistentBuilding.empty()
+                .with(Die.parse("S2"), at(1, 1))
+                .with(Die.parse("W5"), at(3, 2));
+        PersistentBuilding child = parent.with(Die.parse("R1"), at(2, 1));
+
+        assertSame(parent.getStackView(at(1, 1)), child.getStackView(at(1, 1)));
+        assertSame(parent.getStackView(at(3, 2)), child.getStackView(at(3, 2)));
+    }
+
+    @Test
+    public void testWithTracksViolations() {
+        PersistentBuilding building = PersistentBuilding.empty()
+                .with(Die.parse("S5"), at(2, 2))
+                .with(Die.parse("S3"), at(2, 2));
+
+        assertFalse(building.isValid());
+        assertEquals("[DESCENDING_DICE]", building.getViolations().toString());
+    }
+
+    @Test
+    public void testSnapshotIgnoresLaterChanges() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("G1"), at(1, 2));
+        PersistentBuilding snapshot = PersistentBuilding.from(building);
+
+        building.add(Die.parse("G2"), at(1, 2));
+
+        assertEquals(1, snapshot.getNumDice());
+        assertTrue(snapshot.isValid());
+        assertEquals("[G1]", snapshot.toBuilding().getStack(at(1, 2)).toString());
+    }
+}
@@ -0,0 +1,58 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.building.Building;
+import main.building.Material;
+import main.scorers.ScoreTable;
+import main.scorers.ScoreTableGenerator;
+import main.scorers.ScoringEngine;
+
+public class ScoreTableTests {
+
+    @TempDir
+    static Path dir;
+
+    private static ScoreTable table;
+
+    @BeforeAll
+    public static void generateTable() throws IOException {
+        Path path = dir.resolve("score-table.bin");
+        ScoreTableGenerator.generate(path);
+        table = ScoreTable.open(path);
+    }
+
+    @Test
+    public void testRandomBuildingsMatchEngine() {
+        ScoringEngine engine = new ScoringEngine();
+        Random random = new Random(1602);
+        for (int i = 0; i < 5000; i++) {
+            Building building = TestBuildings.random(random, 10);
+
+            for (Material material : Material.values()) {
+                assertEquals(engine.score(building).get(material), table.score(building, material));
+            }
+            assertEquals(engine.score(building).total(), table.total(building));
+            assertEquals(engine.score(building).customScore().getScore(),
+                    table.scoreCard(building).customScore().getScore());
+        }
+    }
+
+    @Test
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Path path = dir.resolve("not-a-table.bin");
+        Files.write(path, new byte[] {1, 2, 3});
+
+        assertThrows(IOException.class, () -> ScoreTable.open(path));
+    }
+}
@@ -0,0 +1,163 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.building.Die;
+import main.daemon.ScoringDaemon;
+import main.presenters.TextFileScoringResultPresenter;
+import main.scoringresult.ScoringPipeline;
+import main.scoringresult.ScoringResult;
+import main.space.Space;
+
+public class ScoringDaemonTests {
+
+    private static final String REQUEST = "BLUEPRINT\n11\n11\n11\nBUILDING\n[row.1]\ncol.1 = \"W5\"\nEND\n";
+
+    private static String expectedSheet() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("W5"), Space.at(0));
+        return TextFileScoringResultPresenter.formatResult(
+                new ScoringPipeline().score(new Blueprint("11 11 11"), building)) + "END\n";
+    }
+
+    private static String readReply(BufferedReader in) throws Exception {
+        StringBuilder reply = new StringBuilder();
+        String line;
+        do {
+            line = in.readLine();
+            reply.append(line).append("\n");
+        } while (!line.equals("END"));
+        return reply.toString();
+    }
+
+    private static Socket connect(ScoringDaemon daemon) throws Exception {
+        return new Socket(InetAddress.getLoopbackAddress(), daemon.port());
+    }
+
+    @Test
+    public void testAnswersRequestsOnOneConnection() throws Exception {
+        try (ScoringDaemon daemon = new ScoringDaemon(0, new ScoringPipeline(), msg -> { })) {
+            daemon.start();
+            try (Socket socket = connect(daemon);
+                    PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                out.print(REQUEST);
+                out.print("BLUEPRINT\n11\nEND\n");
+                out.print(REQUEST);
+                out.flush();
+
+                assertEquals(expectedSheet(), readReply(in));
+                assertTrue(readReply(in).startsWith("ERROR "));
+                assertEquals(expectedSheet(), readReply(in));
+            }
+        }
+    }
+
+    @Test
+    public void testServesConcurrentClients() throws Exception {
+        String expected = expectedSheet();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try (ScoringDaemon daemon = new ScoringDaemon(0, new ScoringPipeline(), msg -> { })) {
+            daemon.start();
+            List<Future<String>> replies = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                replies.add(clients.submit(() -> {
+                    try (Socket socket = connect(daemon);
+                            BufferedReader in = new BufferedReader(
+                                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                        socket.getOutputStream().write(REQUEST.getBytes(StandardCharsets.US_ASCII));
+                        return readReply(in);
+                    }
+                }));
+            }
+            for (Future<String> reply : replies) {
+                assertEquals(expected, reply.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectsOversizedRequestsAndKeepsConnection() throws Exception {
+        try (ScoringDaemon daemon = new ScoringDaemon(0, new ScoringPipeline(), msg -> { })) {
+            daemon.start();
+            try (Socket socket = connect(daemon);
+                    PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                out.print("BLUEPRINT\n" + "1".repeat(ScoringDaemon.MAX_REQUEST_BYTES * 2) + "\nEND\n");
+                out.print(REQUEST);
+                out.flush();
+
+                assertTrue(readReply(in).startsWith("ERROR Request is longer than"));
+                assertEquals(expectedSheet(), readReply(in));
+            }
+        }
+    }
+
+    @Test
+    public void testTurnsAwayClientsOverTheLimit() throws Exception {
+        try (ScoringDaemon daemon = new ScoringDaemon(0, 1, new ScoringPipeline(), msg -> { })) {
+            daemon.start();
+            try (Socket first = connect(daemon);
+                    PrintWriter out = new PrintWriter(first.getOutputStream(), true, StandardCharsets.US_ASCII);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(first.getInputStream(), StandardCharsets.US_ASCII))) {
+                out.print(REQUEST);
+                out.flush();
+                assertEquals(expectedSheet(), readReply(in));
+
+                try (Socket second = connect(daemon);
+                        BufferedReader turnedAway = new BufferedReader(
+                                new InputStreamReader(second.getInputStream(), StandardCharsets.US_ASCII))) {
+                    assertEquals("ERROR Too many clients; try again later.\nEND\n", readReply(turnedAway));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReportsInvalidBuildings() throws Exception {
+        try (ScoringDaemon daemon = new ScoringDaemon(0, new ScoringPipeline(), msg -> { })) {
+            String reply = daemon.answer(List.of("BLUEPRINT", "11", "11", "11", "BUILDING", "[row.1]",
+                    "col.1 = \"W1 W1 W1 W1 W1 W1 W1\""));
+
+            assertEquals("ERROR Building has violations.\nEND\n", reply);
+        }
+    }
+
+    @Test
+    public void testReportsUnexpectedFailures() throws Exception {
+        ScoringPipeline failing = new ScoringPipeline() {
+            @Override
+            public ScoringResult score(Blueprint blueprint, Building building) {
+                throw new IllegalStateException();
+            }
+        };
+        try (ScoringDaemon daemon = new ScoringDaemon(0, failing, msg -> { })) {
+            String reply = daemon.answer(List.of("BLUEPRINT", "11", "11", "11", "BUILDING", "[row.1]",
+                    "col.1 = \"W5\""));
+
+            assertEquals("ERROR java.lang.IllegalStateException\nEND\n", reply);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Material;
+import main.scorers.BuildingBatch;
+import main.scorers.ColumnarBuildingBatch;
+import main.scorers.ColumnarScorers;
+import main.scorers.CustomScorer;
+import main.scorers.GlassScorer;
+import main.scorers.RecycledScorer;
+import main.scorers.ScoreCard;
+import main.scorers.ScoringEngine;
+import main.scorers.StoneScorer;
+import main.scorers.WoodScorer;
+import main.space.Col;
+import main.space.Row;
+import main.space.Space;
+
+public class ScoringEngineTests {
+
+    private final ScoringEngine engine = new ScoringEngine();
+
+    private void assertMatchesScorers(Building building) {
+        ScoreCard card = engine.score(building);
+
+        assertEquals(new GlassScorer(building).score().getScore(), card.get(Material.GLASS));
+        assertEquals(new RecycledScorer(building).score().getScore(), card.get(Material.RECYCLED));
+        assertEquals(new StoneScorer(building).score().getScore(), card.get(Material.STONE));
+        assertEquals(new WoodScorer(building).score().getScore(), card.get(Material.WOOD));
+        assertEquals(new CustomScorer(building).score().getScore(), card.customScore().getScore());
+    }
+
+    @Test
+    public void testEmptyBuildingScoresZero() {
+        ScoreCard card = engine.score(new Building());
+
+        assertEquals(0, card.total());
+        assertMatchesScorers(new Building());
+    }
+
+    @Test
+    public void testStubbedBuildingMatchesScorers() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("R2"), Space.from(Row.at(2), Col.at(1)));
+        building.add(Die.parse("G4"), Space.from(Row.at(2), Col.at(1)));
+        building.add(Die.parse("W5"), Space.from(Row.at(2), Col.at(1)));
+        building.add(Die.parse("G1"), Space.from(Row.at(2), Col.at(2)));
+        building.add(Die.parse("W4"), Space.from(Row.at(2), Col.at(2)));
+        building.add(Die.parse("S6"), Space.from(Row.at(2), Col.at(2)));
+
+        assertMatchesScorers(building);
+        assertEquals(5 + 2 + 5 + 10, engine.score(building).total());
+    }
+
+    @Test
+    public void testRandomBuildingsMatchScorers() {
+        Random random = new Random(1502);
+        for (int i = 0; i < 2000; i++) {
+            Building building = TestBuildings.random(random, 12);
+            assertMatchesScorers(building);
+        }
+    }
+
+    @Test
+    public void testBatchScoresMatchScorers() {
+        Random random = new Random(1502);
+        BuildingBatch batch = new BuildingBatch();
+        Building[] buildings = new Building[500];
+        for (int i = 0; i < buildings.length; i++) {
+            buildings[i] = TestBuildings.random(random, 12);
+            batch.add(buildings[i]);
+        }
+
+        int[] glass = GlassScorer.scoreAll(batch);
+        int[] recycled = RecycledScorer.scoreAll(batch);
+        int[] stone = StoneScorer.scoreAll(batch);
+        int[] wood = WoodScorer.scoreAll(batch);
+        int[] custom = CustomScorer.scoreAll(batch);
+
+        assertEquals(buildings.length, batch.size());
+        for (int i = 0; i < buildings.length; i++) {
+            assertEquals(new GlassScorer(buildings[i]).score().getScore(), glass[i]);
+            assertEquals(new RecycledScorer(buildings[i]).score().getScore(), recycled[i]);
+            assertEquals(new StoneScorer(buildings[i]).score().getScore(), stone[i]);
+            assertEquals(new WoodScorer(buildings[i]).score().getScore(), wood[i]);
+            assertEquals(new CustomScorer(buildings[i]).score().getScore(), custom[i]);
+        }
+    }
+
+    @Test
+    public void testColumnarScoresMatchScorers() {
+        Random random = new Random(2502);
+        ColumnarBuildingBatch batch = new ColumnarBuildingBatch();
+        Building[] buildings = new Building[500];
+        for (int i = 0; i < buildings.length; i++) {
+            buildings[i] = TestBuildings.random(random, 12);
+            batch.add(buildings[i]);
+        }
+
+        int[] glass = ColumnarScorers.glassScores(batch);
+        int[] recycled = ColumnarScorers.recycledScores(batch);
+        int[] stone = ColumnarScorers.stoneScores(batch);
+        int[] custom = ColumnarScorers.customScores(batch);
+
+        for (int i = 0; i < buildings.length; i++) {
+            assertEquals(new GlassScorer(buildings[i]).score().getScore(), glass[i]);
+            assertEquals(new RecycledScorer(buildings[i]).score().getScore(), recycled[i]);
+            assertEquals(new StoneScorer(buildings[i]).score().getScore(), stone[i]);
+            assertEquals(new CustomScorer(buildings[i]).score().getScore(), custom[i]);
+        }
+    }
+
+    private void assertDeltaMatchesRescoring(Building building, Die die, Space space) {
+        ScoreCard before = engine.score(building);
+        ScoreCard delta = engine.deltaIfAdded(building, die, space);
+        long hash = building.zobristHash();
+
+        Building after = new Building(building);
+        after.push(die, space);
+        ScoreCard expected = engine.score(after);
+
+        for (Material material : Material.values()) {
+            assertEquals(expected.get(material) - before.get(material), delta.get(material));
+        }
+        assertEquals(expected.customScore().getScore() - before.customScore().getScore(),
+                delta.customScore().getScore());
+        assertEquals(hash, building.zobristHash());
+    }
+
+    @Test
+    public void testDeltaIfAddedWoodBesideWood() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("W2"), Space.from(Row.at(1), Col.at(1)));
+        building.add(Die.parse("G3"), Space.from(Row.at(2), Col.at(2)));
+
+        ScoreCard delta = engine.deltaIfAdded(building, Die.parse("W4"), Space.from(Row.at(1), Col.at(2)));
+
+        assertEquals(2 * 2 + 2, delta.get(Material.WOOD));
+        assertEquals(0, delta.get(Material.GLASS));
+        assertEquals(2, building.getNumDice());
+    }
+
+    @Test
+    public void testRandomDeltasMatchRescoring() {
+        Random random = new Random(1702);
+        for (int i = 0; i < 2000; i++) {
+            Building building = TestBuildings.random(random, 8);
+            assertDeltaMatchesRescoring(building, Die.fromCode(random.nextInt(Die.CODES)),
+                    Space.at(random.nextInt(Space.COUNT)));
+        }
+    }
+}
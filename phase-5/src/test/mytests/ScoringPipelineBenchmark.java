@@ -0,0 +1,63 @@
+package test.mytests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.scoringresult.ScoringPipeline;
+
+/**
+ * Compares the throughput of {@link ScoringPipeline#scoreAll} with the
+ * single-threaded {@link ScoringPipeline#scoreAllSequential} on a batch of
+ * random valid buildings.
+ * <p>
+ * The first argument is the batch size (default 1,000,000), the second the
+ * number of timed rounds (default 5). Each path is warmed up once before it
+ * is timed.
+ */
+public class ScoringPipelineBenchmark {
+
+    private ScoringPipelineBenchmark() {
+        throw new UnsupportedOperationException("ScoringPipelineBenchmark cannot be instantiated.");
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Blueprint blueprint = new Blueprint("11 22 33");
+        List<Building> buildings = randomBuildings(size, new Random(19));
+        ScoringPipeline pipeline = new ScoringPipeline();
+
+        pipeline.scoreAllSequential(blueprint, buildings);
+        long sequential = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            pipeline.scoreAllSequential(blueprint, buildings);
+            sequential = Math.min(sequential, System.nanoTime() - start);
+        }
+
+        pipeline.scoreAll(blueprint, buildings);
+        long parallel = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            pipeline.scoreAll(blueprint, buildings);
+            parallel = Math.min(parallel, System.nanoTime() - start);
+        }
+
+        System.out.printf("%d buildings, best of %d rounds%n", size, rounds);
+        System.out.printf("sequential: %,12.0f buildings/s%n", size * 1e9 / sequential);
+        System.out.printf("parallel:   %,12.0f buildings/s (%.2fx)%n", size * 1e9 / parallel,
+                (double) sequential / parallel);
+    }
+
+    private static List<Building> randomBuildings(int size, Random random) {
+        List<Building> buildings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buildings.add(TestBuildings.randomValid(random, 10));
+        }
+        return buildings;
+    }
+}
@@ -0,0 +1,94 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static test.mytests.TestBuildings.at;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import main.blueprint.Blueprint;
+import main.building.Building;
+import main.building.Die;
+import main.presenters.TextFileScoringResultPresenter;
+import main.scoringresult.ScoreCategory;
+import main.scoringresult.ScoringPipeline;
+import main.scoringresult.ScoringResult;
+
+public class ScoringPipelineTests {
+
+    private final ScoringPipeline pipeline = new ScoringPipeline();
+
+    @Test
+    public void testFollowedBlueprintEarnsBonusOnScoreSheet() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("W5"), at(1, 1));
+        building.add(Die.parse("S5"), at(1, 2));
+        building.add(Die.parse("G1"), at(2, 1));
+        building.add(Die.parse("R1"), at(2, 2));
+        building.add(Die.parse("W3"), at(3, 1));
+        building.add(Die.parse("S3"), at(3, 2));
+
+        ScoringResult result = pipeline.score(new Blueprint("11 11 11"), building);
+
+        assertEquals(6, result.score(ScoreCategory.BONUS));
+        assertEquals(21, result.totalScore());
+        assertEquals(String.join("\n",
+                "11",
+                "11",
+                "11",
+                "",
+                "W5|S5",
+                "==+==",
+                "G1|R1",
+                "==+==",
+                "W3|S3",
+                "",
+                "+-----------+----+",
+                "| glass     |  1 |",
+                "| recycled  |  2 |",
+                "| stone     |  4 |",
+                "| wood      |  8 |",
+                "| **bonus** |  6 |",
+                "+===========+====+",
+                "| total     | 21 |",
+                "+-----------+----+",
+                "",
+                "Rule violations: NONE",
+                ""), TextFileScoringResultPresenter.formatResult(result));
+    }
+
+    @Test
+    public void testInvalidPlacementScoresZero() throws Exception {
+        Building building = new Building();
+        building.add(Die.parse("G3"), at(1, 1));
+
+        ScoringResult result = pipeline.score(new Blueprint("X1 11 11"), building);
+
+        assertEquals(0, result.totalScore());
+        assertEquals(0, result.score(ScoreCategory.GLASS));
+        assertEquals("[INVALID_PLACEMENT]", result.violations().toString());
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        Random random = new Random(1902);
+        List<Building> buildings = new ArrayList<>();
+        for (int i = 0; i < 3 * ScoringPipeline.PARALLEL_THRESHOLD; i++) {
+            Building building = TestBuildings.random(random, 10);
+            buildings.add(building);
+        }
+        Blueprint blueprint = new Blueprint("1X 21 11");
+
+        ScoringResult[] parallel = pipeline.scoreAll(blueprint, buildings);
+        ScoringResult[] sequential = pipeline.scoreAllSequential(blueprint, buildings);
+
+        assertEquals(buildings.size(), parallel.length);
+        for (int i = 0; i < parallel.length; i++) {
+            assertEquals(sequential[i].breakdown(), parallel[i].breakdown());
+            assertEquals(sequential[i].violations().toString(), parallel[i].violations().toString());
+        }
+    }
+}
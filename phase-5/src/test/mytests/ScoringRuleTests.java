@@ -0,0 +1,85 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static test.mytests.TestBuildings.at;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import main.building.Building;
+import main.building.Die;
+import main.building.Material;
+import main.exceptions.runtime.InvalidScoringRuleException;
+import main.scorers.CustomScorer;
+import main.scorers.GlassScorer;
+import main.scorers.RecycledScorer;
+import main.scorers.RuleScorer;
+import main.scorers.ScoringRule;
+import main.scorers.ScoringRules;
+import main.scorers.StoneScorer;
+import main.scorers.WoodScorer;
+
+public class ScoringRuleTests {
+
+    private static final ScoringRule GLASS = ScoringRule.compile("score glass as sum face");
+    private static final ScoringRule RECYCLED = ScoringRule.compile("score recycled as count table 0,2,5,10,15,20,30");
+    private static final ScoringRule STONE = ScoringRule.compile("score stone as level table 2,3,5,8");
+    private static final ScoringRule WOOD = ScoringRule.compile("score wood as touching 2");
+    private static final ScoringRule CUSTOM = ScoringRule.compile("score glass if all odd or all even as sum face");
+
+    @Test
+    public void testBuiltInRulesMatchScorers() {
+        Random random = new Random(1802);
+        for (int i = 0; i < 2000; i++) {
+            Building building = TestBuildings.random(random, 10);
+
+            assertEquals(new GlassScorer(building).score().getScore(), GLASS.score(building));
+            assertEquals(new RecycledScorer(building).score().getScore(), RECYCLED.score(building));
+            assertEquals(new StoneScorer(building).score().getScore(), STONE.score(building));
+            assertEquals(new WoodScorer(building).score().getScore(), WOOD.score(building));
+            assertEquals(new CustomScorer(building).score().getScore(), CUSTOM.score(building));
+        }
+    }
+
+    @Test
+    public void testFiltersNarrowSelection() {
+        Building building = new Building();
+        building.push(Die.parse("S1"), at(1, 1));
+        building.push(Die.parse("S2"), at(1, 1));
+        building.push(Die.parse("S5"), at(1, 1));
+        building.push(Die.parse("W3"), at(1, 2));
+
+        assertEquals(2, ScoringRule.compile("score stone on level 2.. as each 1").score(building));
+        assertEquals(6, ScoringRule.compile("score stone odd as sum face").score(building));
+        assertEquals(1, ScoringRule.compile("score stone touching wood as each 1").score(building));
+        assertEquals(0, ScoringRule.compile("score stone if count 4.. as each 10").score(building));
+
+        RuleScorer scorer = new RuleScorer(building, ScoringRule.compile("SCORE Stone Face 2..5 AS each 3"));
+        assertEquals(Material.STONE, scorer.score().getMaterial());
+        assertEquals(6, scorer.score().getScore());
+    }
+
+    @Test
+    public void testCompileRejectsBadRules() {
+        assertThrows(InvalidScoringRuleException.class, () -> ScoringRule.compile("score marble as each 1"));
+        assertThrows(InvalidScoringRuleException.class, () -> ScoringRule.compile("score wood as"));
+        assertThrows(InvalidScoringRuleException.class, () -> ScoringRule.compile("score wood face 4..2 as each 1"));
+        assertThrows(InvalidScoringRuleException.class, () -> ScoringRule.compile("score wood as each 1 please"));
+    }
+
+    @Test
+    public void testParseSkipsCommentsAndReportsLine() {
+        List<ScoringRule> rules = ScoringRules.parse(Arrays.asList("# house rules", "", "score wood as each 1"));
+        assertEquals(1, rules.size());
+        assertEquals("score wood as each 1", rules.get(0).toString());
+
+        InvalidScoringRuleException e = assertThrows(InvalidScoringRuleException.class,
+                () -> ScoringRules.parse(Arrays.asList("score wood as each 1", "score wood as each one")));
+        assertTrue(e.getMessage().startsWith("Line 2:"));
+    }
+}
@@ -67,4 +67,38 @@ public class SpaceTests {
         assertEquals("Can't create a Col with value 3.", exception.getMessage());
     }
 
+    @Test
+    public void testSpaceFromReturnsInternedInstance() {
+        assertSame(Space.from(Row.at(3), Col.at(2)), Space.from(Col.at(2), Row.at(3)));
+        assertSame(Row.at(2), Row.at(2));
+        assertEquals(new Space(Row.at(1), Col.at(2)), Space.from(Row.at(1), Col.at(2)));
+    }
+
+    @Test
+    public void testSpaceIndexIsDenseAndRowMajor() {
+        for (int index = 0; index < Space.COUNT; index++) {
+            Space space = Space.at(index);
+            assertEquals(index, space.index());
+            assertEquals(index, space.rowVal() * 2 + space.colVal());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> Space.at(6));
+    }
+
+    @Test
+    public void testSpaceNeighbours() {
+        Space middleLeft = Space.from(Row.at(2), Col.at(1));
+
+        assertEquals(3, middleLeft.neighbours().size());
+        assertTrue(middleLeft.neighbours().contains(Space.from(Row.at(1), Col.at(1))));
+        assertTrue(middleLeft.neighbours().contains(Space.from(Row.at(3), Col.at(1))));
+        assertTrue(middleLeft.neighbours().contains(Space.from(Row.at(2), Col.at(2))));
+        assertEquals(2, Space.from(Row.at(1), Col.at(2)).neighbours().size());
+        for (Space space : Space.all()) {
+            assertEquals(space.neighbours().size(), space.neighbourCount());
+            for (int n = 0; n < space.neighbourCount(); n++) {
+                assertSame(space.neighbours().get(n), space.neighbour(n));
+            }
+        }
+    }
+
 }
@@ -0,0 +1,64 @@
+package test.mytests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import main.building.Building;
+import main.building.Die;
+import main.space.Col;
+import main.space.Row;
+import main.space.Space;
+
+/**
+ * Helpers for building the buildings and spaces the tests use.
+ */
+public final class TestBuildings {
+
+    private TestBuildings() {
+        throw new UnsupportedOperationException("TestBuildings cannot be instantiated.");
+    }
+
+    /**
+     * Returns the space at a 1-based row and column.
+     */
+    public static Space at(int row, int col) {
+        return Space.from(Row.at(row), Col.at(col));
+    }
+
+    /**
+     * Returns a building of fewer than maxDice random dice on random spaces.
+     * Every die is kept, so the building may break rules.
+     */
+    public static Building random(Random random, int maxDice) {
+        Building building = new Building();
+        int attempts = random.nextInt(maxDice);
+        for (int j = 0; j < attempts; j++) {
+            building.push(Die.fromCode(random.nextInt(Die.CODES)), Space.at(random.nextInt(Space.COUNT)));
+        }
+        return building;
+    }
+
+    /**
+     * Returns a building made by trying to add fewer than maxDice random dice
+     * on random spaces. Dice that would break a rule are left out, so the
+     * building is always valid.
+     */
+    public static Building randomValid(Random random, int maxDice) {
+        Building building = new Building();
+        int attempts = random.nextInt(maxDice);
+        for (int j = 0; j < attempts; j++) {
+            building.tryAdd(Die.fromCode(random.nextInt(Die.CODES)), Space.at(random.nextInt(Space.COUNT)));
+        }
+        return building;
+    }
+
+    /**
+     * Checks that two buildings hold the same dice on every space.
+     */
+    public static void assertSameDice(Building expected, Building actual) {
+        for (Space space : Space.all()) {
+            assertEquals(expected.getStack(space).toString(), actual.getStack(space).toString());
+        }
+    }
+}